@@ -19,6 +19,7 @@ import me.philippheuer.twitch4j.endpoints.TeamEndpoint;
 import me.philippheuer.twitch4j.endpoints.UnofficialEndpoint;
 import me.philippheuer.twitch4j.endpoints.UserEndpoint;
 import me.philippheuer.twitch4j.endpoints.VideoEndpoint;
+import me.philippheuer.twitch4j.enums.EventHydration;
 import me.philippheuer.twitch4j.events.EventDispatcher;
 import me.philippheuer.twitch4j.message.MessageInterface;
 import me.philippheuer.twitch4j.message.commands.CommandHandler;
@@ -100,6 +101,12 @@ public class TwitchClient {
 	@Singular
 	private File configurationDirectory;
 
+	/**
+	 * Defines how the user and channel models of irc events are created
+	 * Default: ({@link EventHydration#REST})
+	 */
+	private EventHydration eventHydration = EventHydration.REST;
+
 	/**
 	 * Command Handler (CHAT Commands and Features)
 	 */
@@ -11,6 +11,9 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.Wither;
 import me.philippheuer.twitch4j.auth.CredentialManager;
 import me.philippheuer.twitch4j.auth.model.OAuthCredential;
+import me.philippheuer.twitch4j.enums.DispatchMode;
+import me.philippheuer.twitch4j.enums.EventHydration;
+import me.philippheuer.twitch4j.enums.WaitStrategy;
 import me.philippheuer.twitch4j.streamlabs.StreamlabsClient;
 
 import org.springframework.util.Assert;
@@ -62,6 +65,36 @@ public class TwitchClientBuilder {
 	 */
 	private File configurationDirectory;
 
+	/**
+	 * Defines how the user and channel models of irc events are created
+	 */
+	private EventHydration eventHydration = EventHydration.REST;
+
+	/**
+	 * Maximum amount of channels per irc connection, see {@link me.philippheuer.twitch4j.message.irc.ChatConnectionPool}
+	 */
+	private int channelsPerConnection = Integer.MAX_VALUE;
+
+	/**
+	 * Defines how the events are delivered to the listeners, {@link DispatchMode#VIRTUAL} falls back to {@link DispatchMode#CACHED} on older JVMs
+	 */
+	private DispatchMode dispatchMode = DispatchMode.CACHED;
+
+	/**
+	 * Amount of event dispatch threads, see {@link DispatchMode#KEYED}, {@link DispatchMode#RING_BUFFER} and {@link DispatchMode#PRIORITY}
+	 */
+	private int dispatchThreads = Runtime.getRuntime().availableProcessors() * 2;
+
+	/**
+	 * Amount of slots of the ring buffer, see {@link DispatchMode#RING_BUFFER}
+	 */
+	private int dispatchBufferSize = 8192;
+
+	/**
+	 * Wait strategy of the ring buffer consumers, see {@link DispatchMode#RING_BUFFER}
+	 */
+	private WaitStrategy dispatchWaitStrategy = WaitStrategy.BLOCKING;
+
 	/**
 	 * List of listeners
 	 */
@@ -87,6 +120,11 @@ public class TwitchClientBuilder {
 		final TwitchClient client = new TwitchClient(clientId, clientSecret);
 		client.getCredentialManager().provideTwitchClient(client);
 		client.getCredentialManager().setSaveCredentials(autoSaveConfiguration);
+		client.setEventHydration(eventHydration);
+		client.getDispatcher().setRingBufferSize(dispatchBufferSize);
+		client.getDispatcher().setWaitStrategy(dispatchWaitStrategy);
+		client.getDispatcher().setDispatchMode(dispatchMode, dispatchThreads);
+		client.getMessageInterface().getTwitchChat().getConnectionPool().setChannelsPerConnection(channelsPerConnection);
 		
 		if (streamLabsClient != null) 
 		{
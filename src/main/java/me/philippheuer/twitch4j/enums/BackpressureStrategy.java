@@ -0,0 +1,22 @@
+package me.philippheuer.twitch4j.enums;
+
+/**
+ * Defines what happens to new events if the buffer of a {@link me.philippheuer.twitch4j.events.flow.EventSubscription} is full.
+ */
+public enum BackpressureStrategy {
+	/**
+	 * The oldest buffered event is dropped.
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * The new event is dropped.
+	 */
+	DROP_NEWEST,
+
+	/**
+	 * The thread dispatching the event waits until the subscriber requested more events.
+	 * This slows down the processing of all events, use with care.
+	 */
+	BLOCK
+}
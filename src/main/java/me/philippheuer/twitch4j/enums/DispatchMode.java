@@ -0,0 +1,36 @@
+package me.philippheuer.twitch4j.enums;
+
+/**
+ * Defines how the {@link me.philippheuer.twitch4j.events.EventDispatcher} executes the delivery of events.
+ */
+public enum DispatchMode {
+	/**
+	 * Every event is delivered on a cached thread pool, without any ordering guarantees.
+	 */
+	CACHED,
+
+	/**
+	 * Events with the same dispatch key (channel, or user for whispers) are delivered in order,
+	 * events with different keys are delivered in parallel on a fixed thread pool.
+	 */
+	KEYED,
+
+	/**
+	 * Every listener invocation runs on its own virtual thread, without any ordering guarantees.
+	 * Falls back to {@link #CACHED} if the JVM doesn't support virtual threads.
+	 */
+	VIRTUAL,
+
+	/**
+	 * Events are published into a preallocated ring buffer without locks and delivered by a fixed amount of consumer threads,
+	 * events with the same dispatch key are delivered in order.
+	 */
+	RING_BUFFER,
+
+	/**
+	 * Events are queued by their {@link EventPriority} and delivered in strict priority order by a fixed thread pool,
+	 * an additional thread only delivers {@link EventPriority#SYSTEM} and {@link EventPriority#MODERATION} events.
+	 * Events waiting too long are delivered before events of higher priority, so no class is starved.
+	 */
+	PRIORITY
+}
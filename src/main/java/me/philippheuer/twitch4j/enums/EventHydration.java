@@ -0,0 +1,18 @@
+package me.philippheuer.twitch4j.enums;
+
+/**
+ * Defines how the {@link me.philippheuer.twitch4j.model.User} and {@link me.philippheuer.twitch4j.model.Channel}
+ * models of irc events are created.
+ */
+public enum EventHydration {
+	/**
+	 * Load the full models using the rest api before the event is dispatched.
+	 */
+	REST,
+
+	/**
+	 * Build partial models from the irc tags (id, name, display name).
+	 * The full models can be loaded on demand using {@link me.philippheuer.twitch4j.events.Event#hydrate(me.philippheuer.twitch4j.model.User)}.
+	 */
+	TAGS
+}
@@ -0,0 +1,27 @@
+package me.philippheuer.twitch4j.enums;
+
+/**
+ * Priority class of an event or listener, used by {@link DispatchMode#PRIORITY}.
+ * The classes are declared from the highest to the lowest priority.
+ */
+public enum EventPriority {
+	/**
+	 * Events required to keep the client working, like token refreshes and module changes
+	 */
+	SYSTEM,
+
+	/**
+	 * Moderation actions, like bans and timeouts
+	 */
+	MODERATION,
+
+	/**
+	 * Chat messages and channel events, the default
+	 */
+	CHAT,
+
+	/**
+	 * Listeners that only collect data, delivered when nothing else is pending
+	 */
+	ANALYTICS
+}
@@ -0,0 +1,21 @@
+package me.philippheuer.twitch4j.enums;
+
+/**
+ * Priority lanes of outgoing chat messages, ordered from highest to lowest priority.
+ */
+public enum MessagePriority {
+	/**
+	 * Moderation commands (/timeout, /ban, ...)
+	 */
+	MODERATION,
+
+	/**
+	 * Normal messages and replies
+	 */
+	NORMAL,
+
+	/**
+	 * Low priority bulk output
+	 */
+	BULK
+}
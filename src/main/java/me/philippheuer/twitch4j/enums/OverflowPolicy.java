@@ -0,0 +1,22 @@
+package me.philippheuer.twitch4j.enums;
+
+/**
+ * Defines what happens when a message is queued into a full outbound lane.
+ */
+public enum OverflowPolicy {
+	/**
+	 * The new message is dropped.
+	 */
+	DROP_NEWEST,
+
+	/**
+	 * The oldest queued message is dropped.
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * The new message is merged into a queued message of the same channel (duplicates are dropped,
+	 * plain text messages are appended if they fit into a single irc message), otherwise the oldest message is dropped.
+	 */
+	MERGE
+}
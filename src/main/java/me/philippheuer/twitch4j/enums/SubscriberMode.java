@@ -0,0 +1,17 @@
+package me.philippheuer.twitch4j.enums;
+
+/**
+ * Defines on which thread a listener is invoked.
+ */
+public enum SubscriberMode {
+	/**
+	 * The listener is invoked by the dispatch engine, see {@link DispatchMode}.
+	 */
+	ASYNC,
+
+	/**
+	 * The listener is invoked on the thread that dispatches the event, in registration order and before any
+	 * asynchronous listener. Inline listeners must not block, they delay the processing of all following events.
+	 */
+	INLINE
+}
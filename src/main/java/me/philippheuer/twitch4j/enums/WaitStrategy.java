@@ -0,0 +1,26 @@
+package me.philippheuer.twitch4j.enums;
+
+/**
+ * Defines how the consumers of the {@link DispatchMode#RING_BUFFER} wait for new events.
+ */
+public enum WaitStrategy {
+	/**
+	 * Consumers sleep until an event is published, lowest cpu usage.
+	 */
+	BLOCKING,
+
+	/**
+	 * Consumers spin, then yield and then park for short periods of time.
+	 */
+	SLEEPING,
+
+	/**
+	 * Consumers spin and then yield their thread, low latency while using a full core per consumer under load.
+	 */
+	YIELDING,
+
+	/**
+	 * Consumers spin constantly, lowest latency while always using a full core per consumer.
+	 */
+	BUSY_SPIN
+}
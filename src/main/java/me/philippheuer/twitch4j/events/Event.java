@@ -5,6 +5,9 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import me.philippheuer.twitch4j.TwitchClient;
+import me.philippheuer.twitch4j.enums.EventPriority;
+import me.philippheuer.twitch4j.model.Channel;
+import me.philippheuer.twitch4j.model.User;
 
 /**
  * Used to represent an event.
@@ -33,4 +36,75 @@ public abstract class Event {
 	public Event() {
 		this.createdAt = Calendar.getInstance();
 	}
+
+	/**
+	 * Loads the full user model, if the event only carries the data provided by the irc tags.
+	 *
+	 * @param user The (partial) user.
+	 * @return The full user model, or the provided user if it is already complete or can't be loaded.
+	 * @see me.philippheuer.twitch4j.enums.EventHydration
+	 */
+	public User hydrate(User user) {
+		if (user == null || user.getCreatedAt() != null) {
+			return user;
+		}
+
+		User fullUser = (user.getId() != null) ? getClient().getUserEndpoint().getUser(user.getId()) : getClient().getUserEndpoint().getUserByUserName(user.getName());
+		return (fullUser != null) ? fullUser : user;
+	}
+
+	/**
+	 * Loads the full channel model, if the event only carries the data provided by the irc tags.
+	 *
+	 * @param channel The (partial) channel.
+	 * @return The full channel model, or the provided channel if it is already complete or can't be loaded.
+	 * @see me.philippheuer.twitch4j.enums.EventHydration
+	 */
+	public Channel hydrate(Channel channel) {
+		if (channel == null || channel.getCreatedAt() != null) {
+			return channel;
+		}
+
+		Channel fullChannel = (channel.getId() != null) ? getClient().getChannelEndpoint().getChannel(channel.getId()) : getClient().getChannelEndpoint().getChannel(channel.getName());
+		return (fullChannel != null) ? fullChannel : channel;
+	}
+
+	/**
+	 * Gets the key used to order the delivery of related events, see {@link me.philippheuer.twitch4j.enums.DispatchMode#KEYED}.
+	 * Events with the same key are delivered in order, events without a key are not ordered.
+	 *
+	 * @return The dispatch key, or null.
+	 */
+	public Object getDispatchKey() {
+		return null;
+	}
+
+	/**
+	 * Gets the key of the state this event reports, see {@link EventSubscriber#coalesceMs()}.
+	 * Events with the same key supersede each other, events without a key are never coalesced.
+	 *
+	 * @return The coalescing key, or null.
+	 */
+	public Object getCoalescingKey() {
+		return null;
+	}
+
+	/**
+	 * Gets the priority class of this event, see {@link me.philippheuer.twitch4j.enums.DispatchMode#PRIORITY}.
+	 * Listeners can override the priority using {@link EventSubscriber#priority()}.
+	 *
+	 * @return The priority class.
+	 */
+	public EventPriority getPriority() {
+		return EventPriority.CHAT;
+	}
+
+	/**
+	 * Gets the name of the channel this event originates from, used to deliver the event to channel-scoped listeners.
+	 *
+	 * @return The channel name, or null if the event doesn't belong to a channel.
+	 */
+	public String getSourceChannel() {
+		return null;
+	}
 }
@@ -2,15 +2,45 @@ package me.philippheuer.twitch4j.events;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import me.philippheuer.twitch4j.TwitchClient;
+import me.philippheuer.twitch4j.enums.BackpressureStrategy;
+import me.philippheuer.twitch4j.enums.DispatchMode;
+import me.philippheuer.twitch4j.enums.EventPriority;
+import me.philippheuer.twitch4j.enums.SubscriberMode;
+import me.philippheuer.twitch4j.enums.WaitStrategy;
+import me.philippheuer.twitch4j.events.dispatch.BatchListenerHandle;
+import me.philippheuer.twitch4j.events.dispatch.CachedDispatchEngine;
+import me.philippheuer.twitch4j.events.dispatch.ClassListenerHandle;
+import me.philippheuer.twitch4j.events.dispatch.CoalescingListenerHandle;
+import me.philippheuer.twitch4j.events.dispatch.DispatchEngine;
+import me.philippheuer.twitch4j.events.dispatch.DispatchPlan;
+import me.philippheuer.twitch4j.events.dispatch.IndexedListenerHandle;
+import me.philippheuer.twitch4j.events.dispatch.KeyedDispatchEngine;
+import me.philippheuer.twitch4j.events.dispatch.ListenerGroup;
+import me.philippheuer.twitch4j.events.dispatch.ListenerHandle;
+import me.philippheuer.twitch4j.events.dispatch.ListenerRegistration;
+import me.philippheuer.twitch4j.events.dispatch.ListenerWatchdog;
+import me.philippheuer.twitch4j.events.dispatch.MethodListenerHandle;
+import me.philippheuer.twitch4j.events.dispatch.PriorityDispatchEngine;
+import me.philippheuer.twitch4j.events.dispatch.RingBufferDispatchEngine;
+import me.philippheuer.twitch4j.events.dispatch.VirtualThreadDispatchEngine;
+import me.philippheuer.twitch4j.events.event.system.ListenerQuarantinedEvent;
+import me.philippheuer.twitch4j.events.flow.EventPublisher;
+import me.philippheuer.twitch4j.events.flow.Flow;
+import me.philippheuer.twitch4j.index.ComponentRegistry;
+import me.philippheuer.twitch4j.index.IndexedSubscriber;
 import net.jodah.typetools.TypeResolver;
 
 /**
@@ -25,15 +55,49 @@ import net.jodah.typetools.TypeResolver;
 @Slf4j
 public class EventDispatcher {
 
-	private final ConcurrentHashMap<Class<?>, ConcurrentHashMap<Method, CopyOnWriteArrayList<ListenerPair<Object>>>> methodListeners = new ConcurrentHashMap<>();
-	@SuppressWarnings("rawtypes")
-	private final ConcurrentHashMap<Class<?>, CopyOnWriteArrayList<ListenerPair<IListener>>> classListeners = new ConcurrentHashMap<>();
-	private final ExecutorService eventExecutor = Executors.newCachedThreadPool(runnable -> { //Ensures all threads are daemons
-		Thread thread = Executors.defaultThreadFactory().newThread(runnable);
-		thread.setName("Event Dispatch Thread");
-		thread.setDaemon(true);
-		return thread;
-	});
+	private static final ListenerHandle[] NO_HANDLES = new ListenerHandle[0];
+
+	/**
+	 * Listeners that receive the events of all channels
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final ListenerGroup listeners = new ListenerGroup();
+
+	/**
+	 * Channel-scoped listeners, by channel name
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final Map<String, ListenerGroup> channelListeners = new ConcurrentHashMap<>();
+
+	/**
+	 * Dispatch Mode
+	 */
+	@Setter(AccessLevel.NONE)
+	private DispatchMode dispatchMode = DispatchMode.CACHED;
+
+	/**
+	 * Amount of slots of the ring buffer, see {@link DispatchMode#RING_BUFFER}
+	 */
+	private int ringBufferSize = 8192;
+
+	/**
+	 * Wait strategy of the ring buffer consumers, see {@link DispatchMode#RING_BUFFER}
+	 */
+	private WaitStrategy waitStrategy = WaitStrategy.BLOCKING;
+
+	/**
+	 * Executes the delivery of the events
+	 */
+	@Setter(AccessLevel.NONE)
+	private volatile DispatchEngine dispatchEngine = new CachedDispatchEngine();
+
+	/**
+	 * Measures the listeners and quarantines slow listeners
+	 */
+	@Setter(AccessLevel.NONE)
+	private final ListenerWatchdog watchdog = new ListenerWatchdog(2, 1000, (handle, reason) -> dispatch(new ListenerQuarantinedEvent(handle, reason)));
 
 	/**
 	 * Holds the TwitchClient Instance
@@ -49,32 +113,123 @@ public class EventDispatcher {
 		setClient(client);
 	}
 
+	/**
+	 * Sets the dispatch mode, the previous engine finishes the delivery of the already queued events.
+	 *
+	 * @param dispatchMode The dispatch mode.
+	 * @param threads Amount of threads, used by {@link DispatchMode#KEYED}, {@link DispatchMode#RING_BUFFER} and {@link DispatchMode#PRIORITY}.
+	 */
+	public synchronized void setDispatchMode(DispatchMode dispatchMode, int threads) {
+		DispatchEngine previous = this.dispatchEngine;
+		if (dispatchMode == DispatchMode.VIRTUAL && !VirtualThreadDispatchEngine.isSupported()) {
+			log.warn("Virtual threads are not supported by this JVM, falling back to dispatch mode {}.", DispatchMode.CACHED);
+			dispatchMode = DispatchMode.CACHED;
+		}
+
+		switch (dispatchMode) {
+			case KEYED:
+				this.dispatchEngine = new KeyedDispatchEngine(threads);
+				break;
+			case VIRTUAL:
+				this.dispatchEngine = new VirtualThreadDispatchEngine();
+				break;
+			case RING_BUFFER:
+				this.dispatchEngine = new RingBufferDispatchEngine(ringBufferSize, threads, waitStrategy);
+				break;
+			case PRIORITY:
+				this.dispatchEngine = new PriorityDispatchEngine(threads);
+				break;
+			case CACHED:
+			default:
+				this.dispatchEngine = new CachedDispatchEngine();
+				break;
+		}
+		this.dispatchMode = dispatchMode;
+		previous.shutdown();
+
+		log.debug("Using dispatch mode {}.", dispatchMode);
+	}
+
 	/**
 	 * Registers a listener using {@link EventSubscriber} method annotations.
 	 *
 	 * @param listener The listener.
+	 * @return The registration, used to unregister the listener.
+	 */
+	public ListenerRegistration registerListener(Object listener) {
+		return registerListener(listener.getClass(), listener, false, null);
+	}
+
+	/**
+	 * Registers a listener using {@link EventSubscriber} method annotations, which only receives the events of a single channel.
+	 *
+	 * @param listener The listener.
+	 * @param channelName The channel name.
+	 * @return The registration, used to unregister the listener.
 	 */
-	public void registerListener(Object listener) {
-		registerListener(listener.getClass(), listener, false);
+	public ListenerRegistration registerListener(Object listener, String channelName) {
+		return registerListener(listener.getClass(), listener, false, channelName);
 	}
 
 	/**
 	 * Registers a listener using {@link EventSubscriber} method annotations.
 	 *
 	 * @param listener The listener.
+	 * @return The registration, used to unregister the listener.
 	 */
-	public void registerListener(Class<?> listener) {
-		registerListener(listener, null, false);
+	public ListenerRegistration registerListener(Class<?> listener) {
+		return registerListener(listener, null, false, null);
 	}
 
 	/**
 	 * Registers a single event listener.
 	 *
 	 * @param listener The listener.
+	 * @return The registration, used to unregister the listener.
 	 */
 	@SuppressWarnings({"rawtypes", "unchecked"})
-	public void registerListener(IListener listener) {
-		registerListener(listener, false);
+	public ListenerRegistration registerListener(IListener listener) {
+		return registerListener(listener, false, SubscriberMode.ASYNC, null);
+	}
+
+	/**
+	 * Registers a single event listener.
+	 *
+	 * @param listener The listener.
+	 * @param mode Defines on which thread the listener is invoked.
+	 * @return The registration, used to unregister the listener.
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public ListenerRegistration registerListener(IListener listener, SubscriberMode mode) {
+		return registerListener(listener, false, mode, null);
+	}
+
+	/**
+	 * Registers a single event listener for an explicit event type.
+	 * <p>
+	 * Use this method for generic listeners and lambdas, where the event type can't be resolved from the type argument.
+	 *
+	 * @param <T> The event type.
+	 * @param eventType The event type.
+	 * @param listener The listener.
+	 * @param mode Defines on which thread the listener is invoked.
+	 * @return The registration, used to unregister the listener.
+	 */
+	public <T extends Event> ListenerRegistration registerListener(Class<T> eventType, IListener<T> listener, SubscriberMode mode) {
+		log.info("Registered IListener {} for {}", listener.getClass().getSimpleName(), eventType.getSimpleName());
+		return addListeners(Collections.singletonList(new ClassListenerHandle(listener, eventType, false, mode, null)));
+	}
+
+	/**
+	 * Registers a single event listener, which only receives the events of a single channel.
+	 *
+	 * @param listener The listener.
+	 * @param channelName The channel name.
+	 * @return The registration, used to unregister the listener.
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public ListenerRegistration registerListener(IListener listener, String channelName) {
+		return registerListener(listener, false, SubscriberMode.ASYNC, channelName);
 	}
 
 	/**
@@ -83,34 +238,62 @@ public class EventDispatcher {
 	 * @param listenerClass The class of the listener.
 	 * @param listener The listener.
 	 * @param isTemporary Whether the listener is temporary or not.
+	 * @param channelName The channel the listener is scoped to, or null.
+	 * @return The registration.
 	 */
 	@SuppressWarnings({"rawtypes", "unchecked"})
-	private void registerListener(Class<?> listenerClass, Object listener, boolean isTemporary) {
+	private ListenerRegistration registerListener(Class<?> listenerClass, Object listener, boolean isTemporary, String channelName) {
 		if (IListener.class.isAssignableFrom(listenerClass)) {
 			log.warn("IListener was attempted to be registered as an annotation listener. The listener in question will now be registered as an IListener.");
-			registerListener((IListener) listener, isTemporary);
-			return;
+			return registerListener((IListener) listener, isTemporary, SubscriberMode.ASYNC, channelName);
+		}
+
+		List<ListenerHandle> handles = new ArrayList<>();
+		Object owner = (listener != null) ? listener : listenerClass;
+
+		// generated at compile time, no reflection needed
+		List<IndexedSubscriber> indexed = ComponentRegistry.getInstance().getSubscribers(listenerClass);
+		if (indexed != null) {
+			for (IndexedSubscriber subscriber : indexed) {
+				if (subscriber.isStaticMethod() || listener != null) {
+					ListenerHandle handle = new IndexedListenerHandle(owner, listener, subscriber, isTemporary, channelName);
+					handle.setPriority(subscriber.getPriority());
+					handles.add(handle);
+					log.info("Registered indexed method listener {}#{}", listenerClass.getSimpleName(), subscriber.getMethodName());
+				}
+			}
+			return addListeners(handles);
 		}
 
 		for (Method method : listenerClass.getMethods()) {
 			if (method.getParameterCount() == 1
 					&& method.isAnnotationPresent(EventSubscriber.class)) {
 				if ((Modifier.isStatic(method.getModifiers()) && listener == null) || listener != null) {
-					method.setAccessible(true);
 					Class<?> eventClass = method.getParameterTypes()[0];
-					if (Event.class.isAssignableFrom(eventClass)) {
-						if (!methodListeners.containsKey(eventClass))
-							methodListeners.put(eventClass, new ConcurrentHashMap<>());
-
-						if (!methodListeners.get(eventClass).containsKey(method))
-							methodListeners.get(eventClass).put(method, new CopyOnWriteArrayList<>());
-
-						methodListeners.get(eventClass).get(method).add(new ListenerPair<>(isTemporary, listener));
+					EventSubscriber annotation = method.getAnnotation(EventSubscriber.class);
+					ListenerHandle handle = null;
+					if (Event.class.isAssignableFrom(eventClass) && annotation.coalesceMs() > 0) {
+						handle = new CoalescingListenerHandle(owner, listener, method, isTemporary, channelName);
+						log.info("Registered coalescing method listener {}#{}", listenerClass.getSimpleName(), method.getName());
+					} else if (Event.class.isAssignableFrom(eventClass)) {
+						handle = new MethodListenerHandle(owner, listener, method, isTemporary, channelName);
 						log.info("Registered method listener {}#{}", listenerClass.getSimpleName(), method.getName());
+					} else if (BatchListenerHandle.isBatchListener(method)) {
+						handle = new BatchListenerHandle(owner, listener, method, isTemporary, channelName);
+						log.info("Registered batch listener {}#{}", listenerClass.getSimpleName(), method.getName());
+					}
+
+					if (handle != null) {
+						handle.setPriority((annotation.priority().length > 0) ? annotation.priority()[0] : null);
+						handle.setSoftDeadlineMs(annotation.softDeadlineMs());
+						handle.setHardDeadlineMs(annotation.hardDeadlineMs());
+						handle.setQuarantineExempt(!annotation.quarantine());
+						handles.add(handle);
 					}
 				}
 			}
 		}
+		return addListeners(handles);
 	}
 
 	/**
@@ -118,16 +301,18 @@ public class EventDispatcher {
 	 *
 	 * @param listener The listener.
 	 * @param isTemporary Whether the listener is temporary or not.
+	 * @param mode Defines on which thread the listener is invoked.
+	 * @param channelName The channel the listener is scoped to, or null.
+	 * @return The registration.
 	 */
-	private <T extends Event> void registerListener(IListener<T> listener, boolean isTemporary) {
+	private <T extends Event> ListenerRegistration registerListener(IListener<T> listener, boolean isTemporary, SubscriberMode mode, String channelName) {
 		Class<?> rawType = TypeResolver.resolveRawArgument(IListener.class, listener.getClass());
+		List<ListenerHandle> handles = new ArrayList<>();
 		if (Event.class.isAssignableFrom(rawType)) {
-			if (!classListeners.containsKey(rawType))
-				classListeners.put(rawType, new CopyOnWriteArrayList<>());
-
 			log.info("Registered IListener {}", listener.getClass().getSimpleName());
-			classListeners.get(rawType).add(new ListenerPair<>(isTemporary, listener));
+			handles.add(new ClassListenerHandle(listener, rawType, isTemporary, mode, channelName));
 		}
+		return addListeners(handles);
 	}
 
 	/**
@@ -135,9 +320,10 @@ public class EventDispatcher {
 	 * Meaning that when it listens to an event, it immediately unregisters itself.
 	 *
 	 * @param listener The listener.
+	 * @return The registration, used to unregister the listener before it received an event.
 	 */
-	public void registerTemporaryListener(Object listener) {
-		registerListener(listener.getClass(), listener, true);
+	public ListenerRegistration registerTemporaryListener(Object listener) {
+		return registerListener(listener.getClass(), listener, true, null);
 	}
 
 	/**
@@ -145,9 +331,10 @@ public class EventDispatcher {
 	 * Meaning that when it listens to an event, it immediately unregisters itself.
 	 *
 	 * @param listener The listener.
+	 * @return The registration, used to unregister the listener before it received an event.
 	 */
-	public void registerTemporaryListener(Class<?> listener) {
-		registerListener(listener, null, true);
+	public ListenerRegistration registerTemporaryListener(Class<?> listener) {
+		return registerListener(listener, null, true, null);
 	}
 
 	/**
@@ -156,156 +343,281 @@ public class EventDispatcher {
 	 *
 	 * @param <T> Type of the temporary event.
 	 * @param listener The listener.
+	 * @return The registration, used to unregister the listener before it received an event.
 	 */
-	public <T extends Event> void registerTemporaryListener(IListener<T> listener) {
-		registerListener(listener, true);
+	public <T extends Event> ListenerRegistration registerTemporaryListener(IListener<T> listener) {
+		return registerListener(listener, true, SubscriberMode.ASYNC, null);
 	}
 
 	/**
 	 * Unregisters a listener using {@link EventSubscriber} method annotations.
+	 * <p>
+	 * This needs to look up the listener, use {@link ListenerRegistration#unregister()} instead.
 	 *
 	 * @param listener The listener.
 	 */
-	@SuppressWarnings("rawtypes")
 	public void unregisterListener(Object listener) {
-		for (Method method : listener.getClass().getMethods()) {
-			if (method.getParameterCount() == 1) {
-				Class<?> eventClass = method.getParameterTypes()[0];
-				if (Event.class.isAssignableFrom(eventClass)) {
-					if (methodListeners.containsKey(eventClass)) {
-						if (methodListeners.get(eventClass).containsKey(method)) {
-							methodListeners.get(eventClass).get(method).removeIf((ListenerPair pair) -> pair.listener == listener); //Yes, the == is intentional. We want the exact same instance.
-
-							log.debug("Unregistered method listener {}#{}", listener.getClass().getSimpleName(), method.toString());
-						}
-					}
-				}
-			}
+		if (unregisterOwner(listener)) {
+			log.debug("Unregistered method listener {}", listener.getClass().getSimpleName());
 		}
 	}
 
 	/**
 	 * Unregisters a listener using {@link EventSubscriber} method annotations.
+	 * <p>
+	 * This needs to look up the listener, use {@link ListenerRegistration#unregister()} instead.
 	 *
 	 * @param clazz The listener class with static methods.
 	 */
-	@SuppressWarnings("rawtypes")
 	public void unregisterListener(Class<?> clazz) {
-		for (Method method : clazz.getMethods()) {
-			if (method.getParameterCount() == 1) {
-				Class<?> eventClass = method.getParameterTypes()[0];
-				if (Event.class.isAssignableFrom(eventClass)) {
-					if (methodListeners.containsKey(eventClass))
-						if (methodListeners.get(eventClass).containsKey(method)) {
-							methodListeners.get(eventClass).get(method).removeIf((ListenerPair pair) -> pair.listener == null); // null for static listener
-
-							log.debug("Unregistered class method listener {}#{}", clazz.getSimpleName(), method.toString());
-						}
-				}
-			}
+		if (unregisterOwner(clazz)) {
+			log.debug("Unregistered class method listener {}", clazz.getSimpleName());
 		}
 	}
 
 	/**
 	 * Unregisters a single event listener.
+	 * <p>
+	 * This needs to look up the listener, use {@link ListenerRegistration#unregister()} instead.
 	 *
 	 * @param listener The listener.
 	 */
 	@SuppressWarnings("rawtypes")
 	public void unregisterListener(IListener listener) {
-		Class<?> rawType = TypeResolver.resolveRawArgument(IListener.class, listener.getClass());
-		if (Event.class.isAssignableFrom(rawType)) {
-			if (classListeners.containsKey(rawType)) {
-				classListeners.get(rawType).removeIf((ListenerPair pair) -> pair.listener == listener); //Yes, the == is intentional. We want the exact same instance.
+		if (unregisterOwner(listener)) {
+			log.debug("Unregistered IListener {}", listener.getClass().getSimpleName());
+		}
+	}
 
-				log.debug("Unregistered IListener {}", listener.getClass().getSimpleName());
+	/**
+	 * Gets a publisher of an event type, which delivers the events to its subscribers as requested.
+	 *
+	 * @param <T> The event type.
+	 * @param eventType The event type.
+	 * @param bufferSize Maximum amount of buffered events per subscriber.
+	 * @param backpressureStrategy Defines what happens if the buffer of a subscriber is full.
+	 * @return The publisher.
+	 */
+	public <T extends Event> Flow.Publisher<T> getPublisher(Class<T> eventType, int bufferSize, BackpressureStrategy backpressureStrategy) {
+		return new EventPublisher<>(this, eventType, bufferSize, backpressureStrategy);
+	}
+
+	/**
+	 * Adds listeners to the global or channel listeners
+	 *
+	 * @param handles The listeners.
+	 * @return The registration of the listeners.
+	 */
+	private ListenerRegistration addListeners(List<ListenerHandle> handles) {
+		ListenerRegistration registration = new ListenerRegistration(handles);
+		for (ListenerHandle handle : handles) {
+			watchdog.attach(handle);
+			if (handle.getChannel() == null) {
+				listeners.add(handle);
+			} else {
+				channelListeners.compute(handle.getChannel(), (channel, group) -> {
+					if (group == null) {
+						// drop the group once all listeners are gone, compute is atomic with a concurrent registration
+						group = new ListenerGroup(() -> channelListeners.computeIfPresent(channel, (k, g) -> g.isEmpty() ? null : g));
+					}
+					group.add(handle);
+					return group;
+				});
+			}
+		}
+		return registration;
+	}
+
+	/**
+	 * Unregisters all registrations with listeners of the owner
+	 *
+	 * @param owner The registered listener.
+	 * @return true, if any listener was unregistered
+	 */
+	private boolean unregisterOwner(Object owner) {
+		List<ListenerRegistration> registrations = new ArrayList<>();
+		Consumer<ListenerHandle> collector = handle -> {
+			//Yes, the == is intentional. We want the exact same instance.
+			if (handle.getOwner() == owner && handle.isActive()) {
+				registrations.add(handle.getRegistration());
 			}
+		};
+		listeners.forEach(collector);
+		channelListeners.values().forEach(group -> group.forEach(collector));
+
+		boolean removed = false;
+		for (ListenerRegistration registration : registrations) {
+			removed |= registration.unregister();
 		}
+		return removed;
+	}
+
+	/**
+	 * Gets the dispatch plan of an event class, the plan is resolved once and reused until the listeners change.
+	 *
+	 * @param eventClass The concrete event class.
+	 * @return The dispatch plan of the global listeners.
+	 */
+	public DispatchPlan getDispatchPlan(Class<?> eventClass) {
+		return listeners.getDispatchPlan(eventClass);
+	}
+
+	/**
+	 * Gets the dispatch plan of the listeners scoped to a channel.
+	 *
+	 * @param channel The channel name.
+	 * @param eventClass The concrete event class.
+	 * @return The dispatch plan, or null if there are no listeners scoped to the channel.
+	 */
+	public DispatchPlan getDispatchPlan(String channel, Class<?> eventClass) {
+		ListenerGroup group = channelListeners.get(channel);
+		return (group != null) ? group.getDispatchPlan(eventClass) : null;
 	}
 
 	/**
 	 * Dispatches an event.
+	 * <p>
+	 * Inline listeners are invoked right away on the calling thread, the asynchronous listeners afterwards by the dispatch engine.
+	 * Global listeners are invoked before the listeners scoped to the channel of the event.
 	 *
 	 * @param event The event.
 	 */
-	@SuppressWarnings("unchecked")
-	public synchronized void dispatch(Event event) {
-		eventExecutor.submit(() -> {
-			log.trace("Dispatching Event of Type [{}]", event.getClass().getSimpleName());
-			event.setClient(client);
-
-			// Method Listener
-			methodListeners.entrySet().stream()
-					.filter(e -> e.getKey().isAssignableFrom(event.getClass()))
-					.map(Map.Entry::getValue)
-					.forEach(m ->
-							m.forEach((k, v) ->
-									v.forEach(o -> {
-										try {
-											// Invoke Event
-											k.invoke(o.listener, event);
-
-											// Remove Temporary Listener
-											if (o.isTemporary) {
-												unregisterListener(o.listener);
-											}
-										} catch (IllegalAccessException ex) {
-											log.error("Error dispatching event {}", event.getClass().getSimpleName());
-										} catch (Exception ex) {
-											ex.printStackTrace();
-											log.error("Unhandled exception caught dispatching event {}", event.getClass().getSimpleName()); // e.getCause()
-										}
-									})));
-
-			// Class Listener
-			classListeners.entrySet().stream()
-					.filter(e -> e.getKey().isAssignableFrom(event.getClass()))
-					.map(Map.Entry::getValue)
-					.forEach(s -> s.forEach(l -> {
-						try {
-							// Invoke Event
-							l.listener.handle(event);
-
-							// Remove Temporary Listener
-							if (l.isTemporary)
-								unregisterListener(l.listener);
-						} catch (ClassCastException e) {
-							// FIXME: This occurs when a lambda expression is used to create an IListener leading it to be registered under the type 'Event'.
-							// FIXME: This is due to a bug in TypeTools: https://github.com/jhalterman/typetools/issues/14
-						} catch (Exception ex) {
-							log.error("Unhandled exception caught dispatching event {} [{}]", event.getClass().getSimpleName(), ex.getMessage());
-						}
-					}));
+	public void dispatch(Event event) {
+		event.setClient(client);
+		log.trace("Dispatching Event of Type [{}]", event.getClass().getSimpleName());
+
+		DispatchPlan plan = getDispatchPlan(event.getClass());
+		String channel = event.getSourceChannel();
+		DispatchPlan channelPlan = (channel != null) ? getDispatchPlan(channel, event.getClass()) : null;
+
+		deliver(event, plan.getInlineHandles());
+		if (channelPlan != null) {
+			deliver(event, channelPlan.getInlineHandles());
+		}
+
+		ListenerHandle[] asyncHandles = plan.getAsyncHandles();
+		ListenerHandle[] channelAsyncHandles = (channelPlan != null) ? channelPlan.getAsyncHandles() : NO_HANDLES;
+		if (dispatchEngine.isPerListener()) {
+			executePerListener(event, asyncHandles);
+			executePerListener(event, channelAsyncHandles);
+			return;
+		}
+		if (hasPriority(asyncHandles) || hasPriority(channelAsyncHandles)) {
+			executeByPriority(event, asyncHandles, channelAsyncHandles);
+			return;
+		}
+
+		EventPriority priority = event.getPriority();
+		boolean async = asyncHandles.length > 0;
+		boolean channelAsync = channelAsyncHandles.length > 0;
+		if (async && channelAsync) {
+			dispatchEngine.execute(event, priority, () -> {
+				deliver(event, asyncHandles);
+				deliver(event, channelAsyncHandles);
+			});
+		} else if (async) {
+			dispatchEngine.execute(event, priority, () -> deliver(event, asyncHandles));
+		} else if (channelAsync) {
+			dispatchEngine.execute(event, priority, () -> deliver(event, channelAsyncHandles));
+		}
+	}
+
+	/**
+	 * Checks if any listener declares its own priority class
+	 */
+	private static boolean hasPriority(ListenerHandle[] handles) {
+		for (ListenerHandle handle : handles) {
+			if (handle.getPriority() != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Delivers an event separately to the listeners of each priority class
+	 *
+	 * @param event The event.
+	 * @param handles The listeners.
+	 * @param channelHandles The channel-scoped listeners.
+	 */
+	private void executeByPriority(Event event, ListenerHandle[] handles, ListenerHandle[] channelHandles) {
+		Map<EventPriority, List<ListenerHandle>> handlesByPriority = new EnumMap<>(EventPriority.class);
+		for (ListenerHandle[] group : Arrays.asList(handles, channelHandles)) {
+			for (ListenerHandle handle : group) {
+				EventPriority priority = (handle.getPriority() != null) ? handle.getPriority() : event.getPriority();
+				handlesByPriority.computeIfAbsent(priority, k -> new ArrayList<>()).add(handle);
+			}
+		}
+
+		handlesByPriority.forEach((priority, list) -> {
+			ListenerHandle[] array = list.toArray(NO_HANDLES);
+			dispatchEngine.execute(event, priority, () -> deliver(event, array));
 		});
 	}
 
 	/**
-	 * This is used to differentiate temporary event listeners from permanent ones.
+	 * Delivers an event separately to each listener
+	 *
+	 * @param event The event.
+	 * @param handles The listeners.
+	 */
+	private void executePerListener(Event event, ListenerHandle[] handles) {
+		for (ListenerHandle handle : handles) {
+			EventPriority priority = (handle.getPriority() != null) ? handle.getPriority() : event.getPriority();
+			dispatchEngine.execute(event, priority, () -> deliver(event, handle));
+		}
+	}
+
+	/**
+	 * Delivers an event to the listeners
 	 *
-	 * @param <V> The type of listener, either {@link Object} or {@link IListener}
-	 */
-	private static class ListenerPair<V> {
-
-		/**
-		 * Whether the listener is temporary.
-		 * True if a temporary listener, false if otherwise.
-		 */
-		public final boolean isTemporary;
-
-		/**
-		 * The actual listener object instance.
-		 */
-		public final V listener;
-
-		/**
-		 * Class Constructor
-		 *
-		 * @param isTemporary Whether the listener is temporary or not.
-		 * @param listener The listener.
-		 */
-		private ListenerPair(boolean isTemporary, V listener) {
-			this.isTemporary = isTemporary;
-			this.listener = listener;
+	 * @param event The event.
+	 * @param handles The listeners.
+	 */
+	private void deliver(Event event, ListenerHandle[] handles) {
+		for (ListenerHandle handle : handles) {
+			deliver(event, handle);
+		}
+	}
+
+	/**
+	 * Delivers an event to a single listener
+	 *
+	 * @param event The event.
+	 * @param handle The listener.
+	 */
+	private void deliver(Event event, ListenerHandle handle) {
+		// Skip unregistered listeners, temporary listeners are unregistered before their first event
+		if (!handle.isActive() || (handle.isTemporary() && !handle.getRegistration().unregister())) {
+			return;
+		}
+
+		if (handle.isQuarantined()) {
+			watchdog.executeQuarantined(handle, () -> invoke(event, handle));
+		} else {
+			invoke(event, handle);
+		}
+	}
+
+	/**
+	 * Invokes a single listener
+	 *
+	 * @param event The event.
+	 * @param handle The listener.
+	 */
+	private void invoke(Event event, ListenerHandle handle) {
+		try {
+			// Invoke Event
+			watchdog.invoke(handle, event);
+		} catch (ClassCastException ex) {
+			// FIXME: This occurs when a lambda expression is used to create an IListener leading it to be registered under the type 'Event'.
+			// FIXME: This is due to a bug in TypeTools: https://github.com/jhalterman/typetools/issues/14
+			if (!(handle instanceof ClassListenerHandle)) {
+				log.error("Unhandled exception caught dispatching event {} to {} [{}]", event.getClass().getSimpleName(), handle.getName(), ex.getMessage(), ex);
+			}
+		} catch (Throwable ex) {
+			log.error("Unhandled exception caught dispatching event {} to {} [{}]", event.getClass().getSimpleName(), handle.getName(), ex.getMessage(), ex);
 		}
 	}
 }
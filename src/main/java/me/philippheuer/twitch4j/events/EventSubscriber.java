@@ -4,6 +4,8 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import me.philippheuer.twitch4j.enums.EventPriority;
+import me.philippheuer.twitch4j.enums.SubscriberMode;
 
 /**
  * Represents a method that handles events.
@@ -16,4 +18,63 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 public @interface EventSubscriber {
 
+	/**
+	 * Defines on which thread the method is invoked.
+	 *
+	 * @return The subscriber mode.
+	 */
+	SubscriberMode mode() default SubscriberMode.ASYNC;
+
+	/**
+	 * Delivers the events in batches of up to this size, the method must accept a {@code List} of the event type.
+	 * Zero disables batching.
+	 *
+	 * @return The maximum batch size.
+	 */
+	int batchSize() default 0;
+
+	/**
+	 * Maximum time the first event of a batch waits before the batch is delivered, only used with {@link #batchSize()}.
+	 *
+	 * @return The maximum delay in milliseconds.
+	 */
+	long maxDelayMs() default 100;
+
+	/**
+	 * Coalesces events with the same {@link Event#getCoalescingKey()} within this window,
+	 * only the latest event of each key is delivered once the window closes. Zero disables coalescing.
+	 *
+	 * @return The window in milliseconds.
+	 */
+	long coalesceMs() default 0;
+
+	/**
+	 * Priority class of this listener, overrides {@link Event#getPriority()}. Empty uses the priority of the event.
+	 *
+	 * @return The priority class, at most one.
+	 */
+	EventPriority[] priority() default {};
+
+	/**
+	 * Soft deadline of this listener, see {@link me.philippheuer.twitch4j.events.dispatch.ListenerWatchdog}.
+	 * Negative uses the deadline of the watchdog.
+	 *
+	 * @return The soft deadline in milliseconds.
+	 */
+	long softDeadlineMs() default -1;
+
+	/**
+	 * Hard deadline of this listener, see {@link me.philippheuer.twitch4j.events.dispatch.ListenerWatchdog}.
+	 * Negative uses the deadline of the watchdog.
+	 *
+	 * @return The hard deadline in milliseconds.
+	 */
+	long hardDeadlineMs() default -1;
+
+	/**
+	 * Can this listener be quarantined? Disable for listeners that block on purpose.
+	 *
+	 * @return false, to exclude the listener from the quarantine.
+	 */
+	boolean quarantine() default true;
 }
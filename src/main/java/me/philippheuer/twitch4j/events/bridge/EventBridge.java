@@ -0,0 +1,200 @@
+package me.philippheuer.twitch4j.events.bridge;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import me.philippheuer.twitch4j.enums.SubscriberMode;
+import me.philippheuer.twitch4j.events.Event;
+import me.philippheuer.twitch4j.events.EventDispatcher;
+import me.philippheuer.twitch4j.events.dispatch.ListenerRegistration;
+
+/**
+ * Forwards events between the event dispatchers of multiple processes.
+ * <p>
+ * Local events with a registered {@link EventCodec} are encoded and sent to all peers of the {@link EventTransport}.
+ * Events received from peers are dispatched to the local dispatcher as if they were produced locally,
+ * but they are not forwarded again, so every node has to be connected to the nodes that need its events.
+ * This allows to split the nodes connected to twitch from the nodes processing the events.
+ */
+@Slf4j
+@Getter
+public class EventBridge implements Closeable {
+
+	/**
+	 * Local Dispatcher
+	 */
+	private final EventDispatcher dispatcher;
+
+	/**
+	 * Transport
+	 */
+	private final EventTransport transport;
+
+	/**
+	 * Random id of this node, used to ignore frames sent by this node
+	 */
+	private final long nodeId = new Random().nextLong();
+
+	/**
+	 * Forward local events to the peers?
+	 */
+	@Setter
+	private volatile boolean forwardingEnabled = true;
+
+	/**
+	 * Dispatch events received from peers?
+	 */
+	@Setter
+	private volatile boolean receivingEnabled = true;
+
+	/**
+	 * Amount of forwarded events
+	 */
+	private final AtomicLong forwardedEvents = new AtomicLong();
+
+	/**
+	 * Amount of received events
+	 */
+	private final AtomicLong receivedEvents = new AtomicLong();
+
+	/**
+	 * Codecs by type name
+	 */
+	@Getter(AccessLevel.NONE)
+	private final Map<String, EventCodec<?>> codecs = new ConcurrentHashMap<>();
+
+	/**
+	 * Registrations of the forwarding listeners
+	 */
+	@Getter(AccessLevel.NONE)
+	private final List<ListenerRegistration> registrations = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Set while a received event is dispatched, the forwarding listeners are invoked inline by the same thread
+	 */
+	@Getter(AccessLevel.NONE)
+	private final ThreadLocal<Boolean> receiving = ThreadLocal.withInitial(() -> false);
+
+	/**
+	 * Constructor
+	 *
+	 * @param dispatcher Local Dispatcher.
+	 * @param transport  Transport.
+	 */
+	public EventBridge(EventDispatcher dispatcher, EventTransport transport) {
+		this.dispatcher = dispatcher;
+		this.transport = transport;
+	}
+
+	/**
+	 * Adds a codec, events of its type are forwarded to and received from the peers
+	 *
+	 * @param <T>   The event type.
+	 * @param codec The codec.
+	 * @return This bridge.
+	 */
+	public <T extends Event> EventBridge addCodec(EventCodec<T> codec) {
+		if (codecs.putIfAbsent(codec.getTypeName(), codec) != null) {
+			throw new IllegalArgumentException("A codec for " + codec.getTypeName() + " has already been added!");
+		}
+		// quarantined forwarders would run on another thread and break the loop prevention
+		registrations.add(dispatcher.registerListener(codec.getEventType(), event -> forward(codec, event), SubscriberMode.INLINE).exemptFromQuarantine());
+		return this;
+	}
+
+	/**
+	 * Adds multiple codecs
+	 *
+	 * @param codecs The codecs.
+	 * @return This bridge.
+	 */
+	public EventBridge addCodecs(List<EventCodec<?>> codecs) {
+		codecs.forEach(this::addCodec);
+		return this;
+	}
+
+	/**
+	 * Starts the transport
+	 *
+	 * @throws IOException If the transport can't be started.
+	 */
+	public void start() throws IOException {
+		transport.start(this::receive);
+	}
+
+	/**
+	 * Stops forwarding and closes the transport
+	 */
+	@Override
+	public void close() {
+		registrations.forEach(ListenerRegistration::unregister);
+		registrations.clear();
+		transport.close();
+	}
+
+	private <T extends Event> void forward(EventCodec<T> codec, T event) {
+		// subclasses have their own codec, received events are not sent back
+		if (!forwardingEnabled || event.getClass() != codec.getEventType() || receiving.get()) {
+			return;
+		}
+
+		try {
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream(128);
+			DataOutputStream out = new DataOutputStream(buffer);
+			out.writeLong(nodeId);
+			out.writeUTF(codec.getTypeName());
+			codec.encode(event, out);
+			out.flush();
+
+			transport.send(buffer.toByteArray());
+			forwardedEvents.incrementAndGet();
+		} catch (IOException ex) {
+			log.error("Failed to encode {}: {}", event.getClass().getSimpleName(), ex.getMessage());
+		}
+	}
+
+	private void receive(byte[] frame) {
+		if (!receivingEnabled) {
+			return;
+		}
+
+		Event event;
+		try {
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame));
+			if (in.readLong() == nodeId) {
+				return;
+			}
+			String typeName = in.readUTF();
+			EventCodec<?> codec = codecs.get(typeName);
+			if (codec == null) {
+				log.debug("Ignoring event {} received from a peer, no codec has been added.", typeName);
+				return;
+			}
+			event = codec.decode(in);
+		} catch (IOException ex) {
+			log.error("Failed to decode an event received from a peer: {}", ex.getMessage());
+			return;
+		}
+
+		receivedEvents.incrementAndGet();
+		receiving.set(true);
+		try {
+			dispatcher.dispatch(event);
+		} finally {
+			receiving.set(false);
+		}
+	}
+}
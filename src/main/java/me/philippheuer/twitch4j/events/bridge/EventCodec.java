@@ -0,0 +1,51 @@
+package me.philippheuer.twitch4j.events.bridge;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import me.philippheuer.twitch4j.events.Event;
+
+/**
+ * Serializes events of a single type for the {@link EventBridge}.
+ * <p>
+ * Codecs only write the data required to rebuild the event, models like users and channels are transferred partially
+ * and can be loaded using {@link Event#hydrate(me.philippheuer.twitch4j.model.User)}.
+ *
+ * @param <T> The event type.
+ */
+public interface EventCodec<T extends Event> {
+
+	/**
+	 * Gets the event type
+	 *
+	 * @return The event class, subclasses are not handled by this codec.
+	 */
+	Class<T> getEventType();
+
+	/**
+	 * Gets the name identifying the event type on the wire, has to be the same on all nodes
+	 *
+	 * @return The type name.
+	 */
+	default String getTypeName() {
+		return getEventType().getSimpleName();
+	}
+
+	/**
+	 * Writes an event
+	 *
+	 * @param event The event.
+	 * @param out   The output.
+	 * @throws IOException If the event can't be written.
+	 */
+	void encode(T event, DataOutput out) throws IOException;
+
+	/**
+	 * Reads an event
+	 *
+	 * @param in The input.
+	 * @return The event.
+	 * @throws IOException If the event can't be read.
+	 */
+	T decode(DataInput in) throws IOException;
+}
@@ -0,0 +1,220 @@
+package me.philippheuer.twitch4j.events.bridge;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import me.philippheuer.twitch4j.events.Event;
+import me.philippheuer.twitch4j.events.event.channel.CheerEvent;
+import me.philippheuer.twitch4j.events.event.channel.FollowEvent;
+import me.philippheuer.twitch4j.events.event.irc.ChannelMessageActionEvent;
+import me.philippheuer.twitch4j.events.event.irc.ChannelMessageEvent;
+import me.philippheuer.twitch4j.events.event.irc.UserBanEvent;
+import me.philippheuer.twitch4j.events.event.irc.UserTimeoutEvent;
+import me.philippheuer.twitch4j.message.commands.CommandPermission;
+import me.philippheuer.twitch4j.model.Channel;
+import me.philippheuer.twitch4j.model.User;
+
+/**
+ * Codecs of the chat events.
+ * <p>
+ * Command permissions are not transferred, they are granted by the tags of the irc message and a peer could claim any
+ * permission. Received chat messages only have {@link CommandPermission#EVERYONE}, privileged commands have to be
+ * handled by the node connected to twitch.
+ */
+public final class EventCodecs {
+
+	public static final EventCodec<ChannelMessageEvent> CHANNEL_MESSAGE = codec(ChannelMessageEvent.class,
+			(event, out) -> {
+				writeChannel(event.getChannel(), out);
+				writeUser(event.getUser(), out);
+				writeString(event.getMessage(), out);
+			},
+			in -> new ChannelMessageEvent(readChannel(in), readUser(in), readString(in), EnumSet.of(CommandPermission.EVERYONE))
+	);
+
+	public static final EventCodec<ChannelMessageActionEvent> CHANNEL_MESSAGE_ACTION = codec(ChannelMessageActionEvent.class,
+			(event, out) -> {
+				writeChannel(event.getChannel(), out);
+				writeUser(event.getUser(), out);
+				writeString(event.getMessage(), out);
+			},
+			in -> new ChannelMessageActionEvent(readChannel(in), readUser(in), readString(in), EnumSet.of(CommandPermission.EVERYONE))
+	);
+
+	public static final EventCodec<CheerEvent> CHEER = codec(CheerEvent.class,
+			(event, out) -> {
+				writeChannel(event.getChannel(), out);
+				writeUser(event.getUser(), out);
+				writeString(event.getMessage(), out);
+				writeInteger(event.getBits(), out);
+			},
+			in -> new CheerEvent(readChannel(in), readUser(in), readString(in), readInteger(in))
+	);
+
+	public static final EventCodec<FollowEvent> FOLLOW = codec(FollowEvent.class,
+			(event, out) -> {
+				writeChannel(event.getChannel(), out);
+				writeUser(event.getUser(), out);
+			},
+			in -> new FollowEvent(readChannel(in), readUser(in))
+	);
+
+	public static final EventCodec<UserBanEvent> USER_BAN = codec(UserBanEvent.class,
+			(event, out) -> {
+				writeChannel(event.getChannel(), out);
+				writeUser(event.getUser(), out);
+				writeString(event.getReason(), out);
+			},
+			in -> new UserBanEvent(readChannel(in), readUser(in), readString(in))
+	);
+
+	public static final EventCodec<UserTimeoutEvent> USER_TIMEOUT = codec(UserTimeoutEvent.class,
+			(event, out) -> {
+				writeChannel(event.getChannel(), out);
+				writeUser(event.getUser(), out);
+				writeInteger(event.getDuration(), out);
+				writeString(event.getReason(), out);
+			},
+			in -> new UserTimeoutEvent(readChannel(in), readUser(in), readInteger(in), readString(in))
+	);
+
+	private EventCodecs() {
+	}
+
+	/**
+	 * Gets all chat event codecs
+	 *
+	 * @return The codecs.
+	 */
+	public static List<EventCodec<?>> getChatCodecs() {
+		return Arrays.asList(CHANNEL_MESSAGE, CHANNEL_MESSAGE_ACTION, CHEER, FOLLOW, USER_BAN, USER_TIMEOUT);
+	}
+
+	/**
+	 * Creates a codec
+	 *
+	 * @param <T>       The event type.
+	 * @param eventType The event class.
+	 * @param encoder   Writes the event.
+	 * @param decoder   Reads the event.
+	 * @return The codec.
+	 */
+	public static <T extends Event> EventCodec<T> codec(Class<T> eventType, Encoder<T> encoder, Decoder<T> decoder) {
+		return new EventCodec<T>() {
+			@Override
+			public Class<T> getEventType() {
+				return eventType;
+			}
+
+			@Override
+			public void encode(T event, DataOutput out) throws IOException {
+				encoder.encode(event, out);
+			}
+
+			@Override
+			public T decode(DataInput in) throws IOException {
+				return decoder.decode(in);
+			}
+		};
+	}
+
+	/**
+	 * Writes the id and name of a channel
+	 */
+	public static void writeChannel(Channel channel, DataOutput out) throws IOException {
+		out.writeBoolean(channel != null);
+		if (channel != null) {
+			writeLong(channel.getId(), out);
+			writeString(channel.getName(), out);
+		}
+	}
+
+	public static Channel readChannel(DataInput in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		Channel channel = new Channel();
+		channel.setId(readLong(in));
+		channel.setName(readString(in));
+		return channel;
+	}
+
+	/**
+	 * Writes the id, name and display name of a user
+	 */
+	public static void writeUser(User user, DataOutput out) throws IOException {
+		out.writeBoolean(user != null);
+		if (user != null) {
+			writeLong(user.getId(), out);
+			writeString(user.getName(), out);
+			writeString(user.getDisplayName(), out);
+		}
+	}
+
+	public static User readUser(DataInput in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		User user = new User();
+		user.setId(readLong(in));
+		user.setName(readString(in));
+		user.setDisplayName(readString(in));
+		return user;
+	}
+
+	public static void writeString(String value, DataOutput out) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	public static String readString(DataInput in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	public static void writeLong(Long value, DataOutput out) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeLong(value);
+		}
+	}
+
+	public static Long readLong(DataInput in) throws IOException {
+		return in.readBoolean() ? in.readLong() : null;
+	}
+
+	public static void writeInteger(Integer value, DataOutput out) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeInt(value);
+		}
+	}
+
+	public static Integer readInteger(DataInput in) throws IOException {
+		return in.readBoolean() ? in.readInt() : null;
+	}
+
+	/**
+	 * Writes an event
+	 *
+	 * @param <T> The event type.
+	 */
+	@FunctionalInterface
+	public interface Encoder<T> {
+		void encode(T event, DataOutput out) throws IOException;
+	}
+
+	/**
+	 * Reads an event
+	 *
+	 * @param <T> The event type.
+	 */
+	@FunctionalInterface
+	public interface Decoder<T> {
+		T decode(DataInput in) throws IOException;
+	}
+}
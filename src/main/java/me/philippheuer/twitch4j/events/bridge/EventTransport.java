@@ -0,0 +1,34 @@
+package me.philippheuer.twitch4j.events.bridge;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Transfers encoded events between the nodes of an {@link EventBridge}.
+ * <p>
+ * Sending must not block, it is called by the thread that dispatches the event.
+ */
+public interface EventTransport extends Closeable {
+
+	/**
+	 * Starts the transport
+	 *
+	 * @param receiver Called with every frame received from a peer, may be called by multiple threads.
+	 * @throws IOException If the transport can't be started.
+	 */
+	void start(Consumer<byte[]> receiver) throws IOException;
+
+	/**
+	 * Sends a frame to all peers
+	 *
+	 * @param frame The encoded event.
+	 */
+	void send(byte[] frame);
+
+	/**
+	 * Stops the transport
+	 */
+	@Override
+	void close();
+}
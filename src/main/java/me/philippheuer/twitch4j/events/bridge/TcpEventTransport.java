@@ -0,0 +1,509 @@
+package me.philippheuer.twitch4j.events.bridge;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import me.philippheuer.twitch4j.message.ExponentialBackoff;
+
+/**
+ * Transport using length prefixed frames over tcp connections.
+ * <p>
+ * A node accepts connections on its bind address and connects to the configured peers, frames are sent over all
+ * connections. Lost peer connections are reconnected with an exponential backoff.
+ * Frames are queued and written by a single writer thread, if the queue is full new frames are dropped.
+ * <p>
+ * Both sides of a connection prove the knowledge of the shared secret with a HMAC over the random challenges of both
+ * sides, the side that accepted the connection proves first. Every frame is authenticated with a HMAC using a key derived
+ * from the secret and both challenges, frames that fail the check close the connection.
+ * The frames themselves are not encrypted, bind to the loopback or a private network interface.
+ * If two nodes are connected twice (both list each other as peer), only the connection opened by the node with the lower id is kept.
+ */
+@Slf4j
+@Getter
+public class TcpEventTransport implements EventTransport {
+
+	/**
+	 * Maximum size of a frame
+	 */
+	private static final int MAX_FRAME_SIZE = 1024 * 1024;
+
+	/**
+	 * Maximum duration of the handshake in milliseconds
+	 */
+	private static final int HANDSHAKE_TIMEOUT = 5000;
+
+	/**
+	 * Size of the handshake challenge
+	 */
+	private static final int NONCE_SIZE = 16;
+
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+	/**
+	 * Size of a HMAC-SHA256
+	 */
+	private static final int MAC_SIZE = 32;
+
+	/**
+	 * Labels of the signatures, so a signature can't be used for another purpose
+	 */
+	private static final byte INITIATOR = 1;
+
+	private static final byte RESPONDER = 2;
+
+	private static final byte SESSION = 3;
+
+	/**
+	 * Address to accept connections on, null to only connect to peers
+	 */
+	private final InetSocketAddress bindAddress;
+
+	/**
+	 * Peers to connect to
+	 */
+	private final List<InetSocketAddress> peers;
+
+	/**
+	 * Random id of this transport, exchanged during the handshake
+	 */
+	@Getter(AccessLevel.NONE)
+	private final long transportId;
+
+	/**
+	 * Shared secret of all nodes
+	 */
+	@Getter(AccessLevel.NONE)
+	private final SecretKeySpec secret;
+
+	@Getter(AccessLevel.NONE)
+	private final SecureRandom random = new SecureRandom();
+
+	/**
+	 * Frames waiting to be written
+	 */
+	@Getter(AccessLevel.NONE)
+	private final BlockingQueue<byte[]> outbound;
+
+	/**
+	 * Open connections by the transport id of the peer
+	 */
+	@Getter(AccessLevel.NONE)
+	private final Map<Long, Connection> connections = new ConcurrentHashMap<>();
+
+	/**
+	 * Threads of the transport
+	 */
+	@Getter(AccessLevel.NONE)
+	private final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+
+	/**
+	 * Frames dropped because the queue was full
+	 */
+	private final AtomicLong droppedFrames = new AtomicLong();
+
+	@Getter(AccessLevel.NONE)
+	private volatile ServerSocket serverSocket;
+
+	@Getter(AccessLevel.NONE)
+	private volatile Consumer<byte[]> receiver;
+
+	@Getter(AccessLevel.NONE)
+	private volatile boolean running = false;
+
+	/**
+	 * Constructor
+	 *
+	 * @param bindAddress  Address to accept connections on, null to only connect to peers. Use port 0 for a random port.
+	 * @param peers        Peers to connect to.
+	 * @param sharedSecret Secret shared by all nodes, used to authenticate the connections.
+	 * @param queueSize    Maximum amount of frames waiting to be written.
+	 */
+	public TcpEventTransport(InetSocketAddress bindAddress, List<InetSocketAddress> peers, String sharedSecret, int queueSize) {
+		if (sharedSecret == null || sharedSecret.isEmpty()) {
+			throw new IllegalArgumentException("The event bridge requires a shared secret!");
+		}
+		this.bindAddress = bindAddress;
+		this.peers = new ArrayList<>(peers);
+		this.secret = new SecretKeySpec(sharedSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+		this.outbound = new ArrayBlockingQueue<>(queueSize);
+		this.transportId = random.nextLong();
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param bindAddress  Address to accept connections on, null to only connect to peers. Use port 0 for a random port.
+	 * @param peers        Peers to connect to.
+	 * @param sharedSecret Secret shared by all nodes, used to authenticate the connections.
+	 */
+	public TcpEventTransport(InetSocketAddress bindAddress, List<InetSocketAddress> peers, String sharedSecret) {
+		this(bindAddress, peers, sharedSecret, 10000);
+	}
+
+	@Override
+	public synchronized void start(Consumer<byte[]> receiver) throws IOException {
+		if (running) {
+			throw new IllegalStateException("Transport has already been started!");
+		}
+		this.receiver = receiver;
+		running = true;
+
+		if (bindAddress != null) {
+			serverSocket = new ServerSocket();
+			serverSocket.bind(bindAddress);
+			startThread("Event Bridge Acceptor", this::accept);
+			log.info("Event bridge is listening on {}", serverSocket.getLocalSocketAddress());
+			if (!serverSocket.getInetAddress().isLoopbackAddress()) {
+				log.warn("Event bridge is not bound to the loopback interface, frames are sent unencrypted.");
+			}
+		}
+		for (InetSocketAddress peer : peers) {
+			startThread("Event Bridge Peer " + peer, () -> connect(peer));
+		}
+		startThread("Event Bridge Writer", this::write);
+	}
+
+	@Override
+	public void send(byte[] frame) {
+		if (running && !connections.isEmpty() && !outbound.offer(frame)) {
+			droppedFrames.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Gets the port connections are accepted on
+	 *
+	 * @return The local port, -1 if the transport doesn't accept connections.
+	 */
+	public int getLocalPort() {
+		return (serverSocket != null) ? serverSocket.getLocalPort() : -1;
+	}
+
+	/**
+	 * Gets the amount of open connections
+	 *
+	 * @return The amount of connected peers.
+	 */
+	public int getConnectionCount() {
+		return connections.size();
+	}
+
+	@Override
+	public synchronized void close() {
+		running = false;
+		closeQuietly(serverSocket);
+		connections.values().forEach(connection -> closeQuietly(connection.socket));
+		connections.clear();
+		outbound.clear();
+		threads.forEach(Thread::interrupt);
+		threads.clear();
+	}
+
+	private void startThread(String name, Runnable runnable) {
+		Thread thread = new Thread(runnable, name);
+		thread.setDaemon(true);
+		threads.add(thread);
+		thread.start();
+	}
+
+	private void accept() {
+		while (running) {
+			try {
+				Socket socket = serverSocket.accept();
+				startThread("Event Bridge Reader " + socket.getRemoteSocketAddress(), () -> read(socket, false));
+			} catch (IOException ex) {
+				if (running) {
+					log.error("Event bridge failed to accept a connection: {}", ex.getMessage());
+				}
+			}
+		}
+	}
+
+	private void connect(InetSocketAddress peer) {
+		ExponentialBackoff backoff = new ExponentialBackoff();
+		while (running) {
+			try {
+				Socket socket = new Socket();
+				socket.connect(peer);
+				backoff.reset();
+				Long peerId = read(socket, true);
+
+				// the peer is connected using its own connection, reconnect once it's lost
+				while (running && peerId != null && connections.containsKey(peerId)) {
+					Thread.sleep(1000);
+				}
+			} catch (IOException ex) {
+				log.debug("Event bridge failed to connect to {}: {}", peer, ex.getMessage());
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+
+			try {
+				Thread.sleep(backoff.nextDelay());
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Authenticates the connection and reads frames until the connection is closed
+	 *
+	 * @param socket    The socket.
+	 * @param initiator Has this node opened the connection?
+	 * @return The transport id of the peer, null if the handshake failed.
+	 */
+	private Long read(Socket socket, boolean initiator) {
+		Connection connection = null;
+		try {
+			socket.setTcpNoDelay(true);
+			connection = handshake(socket, initiator);
+			if (!register(connection)) {
+				return connection.peerId;
+			}
+			log.info("Event bridge connected to {}", socket.getRemoteSocketAddress());
+
+			while (running) {
+				int size = connection.in.readInt();
+				if (size < 0 || size > MAX_FRAME_SIZE) {
+					throw new IOException("Invalid frame size " + size);
+				}
+				byte[] frame = new byte[size];
+				connection.in.readFully(frame);
+				connection.verify(frame);
+				receiver.accept(frame);
+			}
+		} catch (EOFException | SocketException ex) {
+			log.debug("Event bridge connection to {} has been closed.", socket.getRemoteSocketAddress());
+		} catch (IOException ex) {
+			log.error("Event bridge connection to {} failed: {}", socket.getRemoteSocketAddress(), ex.getMessage());
+		} finally {
+			if (connection != null) {
+				connections.remove(connection.peerId, connection);
+			}
+			closeQuietly(socket);
+		}
+		return (connection != null) ? connection.peerId : null;
+	}
+
+	/**
+	 * Exchanges the transport ids and proves the knowledge of the shared secret on both sides.
+	 * The initiator only proves once the responder has been verified, so an unauthenticated client can't make a node sign its challenge.
+	 */
+	private Connection handshake(Socket socket, boolean initiator) throws IOException {
+		socket.setSoTimeout(HANDSHAKE_TIMEOUT);
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+		byte[] nonce = new byte[NONCE_SIZE];
+		random.nextBytes(nonce);
+		out.writeLong(transportId);
+		out.write(nonce);
+		out.flush();
+
+		long peerId = in.readLong();
+		byte[] peerNonce = new byte[NONCE_SIZE];
+		in.readFully(peerNonce);
+		if (peerId == transportId) {
+			throw new IOException("Connected to itself");
+		}
+
+		// the signatures cover the challenges and ids of both sides in the same order on both nodes
+		byte[] context = ByteBuffer.allocate(2 * NONCE_SIZE + 2 * Long.BYTES)
+				.put(initiator ? nonce : peerNonce)
+				.put(initiator ? peerNonce : nonce)
+				.putLong(initiator ? transportId : peerId)
+				.putLong(initiator ? peerId : transportId)
+				.array();
+		if (initiator) {
+			verify(in, sign(secret, RESPONDER, context));
+			out.write(sign(secret, INITIATOR, context));
+			out.flush();
+		} else {
+			out.write(sign(secret, RESPONDER, context));
+			out.flush();
+			verify(in, sign(secret, INITIATOR, context));
+		}
+
+		socket.setSoTimeout(0);
+		SecretKeySpec sessionKey = new SecretKeySpec(sign(secret, SESSION, context), HMAC_ALGORITHM);
+		return new Connection(socket, peerId, initiator, in, out, createMac(sessionKey), createMac(sessionKey));
+	}
+
+	private static void verify(DataInputStream in, byte[] expected) throws IOException {
+		byte[] proof = new byte[expected.length];
+		in.readFully(proof);
+		if (!MessageDigest.isEqual(expected, proof)) {
+			throw new IOException("Peer failed the authentication");
+		}
+	}
+
+	private static byte[] sign(SecretKeySpec key, byte label, byte[] context) throws IOException {
+		Mac mac = createMac(key);
+		mac.update(label);
+		return mac.doFinal(context);
+	}
+
+	private static Mac createMac(SecretKeySpec key) throws IOException {
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(key);
+			return mac;
+		} catch (GeneralSecurityException ex) {
+			throw new IOException("Failed to initialize " + HMAC_ALGORITHM, ex);
+		}
+	}
+
+	/**
+	 * Adds an authenticated connection, unless the peer is already connected
+	 *
+	 * @return false, if the connection is a duplicate and has to be closed
+	 */
+	private synchronized boolean register(Connection connection) {
+		Connection existing = connections.get(connection.peerId);
+		if (existing != null) {
+			// both nodes keep the connection opened by the node with the lower id
+			boolean preferred = connection.initiator == (transportId < connection.peerId);
+			if (!preferred) {
+				log.debug("Event bridge is already connected to {}, closing duplicate connection.", connection.socket.getRemoteSocketAddress());
+				return false;
+			}
+			closeQuietly(existing.socket);
+		}
+		connections.put(connection.peerId, connection);
+		return true;
+	}
+
+	private void write() {
+		while (running) {
+			try {
+				byte[] frame = outbound.take();
+				for (Connection connection : connections.values()) {
+					try {
+						connection.write(frame, outbound.isEmpty());
+					} catch (IOException ex) {
+						log.error("Event bridge failed to send to {}: {}", connection.socket.getRemoteSocketAddress(), ex.getMessage());
+						connections.remove(connection.peerId, connection);
+						closeQuietly(connection.socket);
+					}
+				}
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private static void closeQuietly(Closeable closeable) {
+		try {
+			if (closeable != null) {
+				closeable.close();
+			}
+		} catch (IOException ignored) {
+		}
+	}
+
+	/**
+	 * An authenticated connection to a peer
+	 * <p>
+	 * The HMAC of a frame covers the sender role and the sequence number of the frame, so frames can't be reflected, replayed or reordered.
+	 */
+	private static class Connection {
+
+		private final Socket socket;
+
+		private final long peerId;
+
+		/**
+		 * Has this node opened the connection?
+		 */
+		private final boolean initiator;
+
+		private final DataInputStream in;
+
+		private final DataOutputStream out;
+
+		/**
+		 * HMAC of the sent frames, only used by the writer thread
+		 */
+		private final Mac outMac;
+
+		/**
+		 * HMAC of the received frames, only used by the reader thread
+		 */
+		private final Mac inMac;
+
+		private long sentFrames;
+
+		private long receivedFrames;
+
+		private Connection(Socket socket, long peerId, boolean initiator, DataInputStream in, DataOutputStream out, Mac outMac, Mac inMac) {
+			this.socket = socket;
+			this.peerId = peerId;
+			this.initiator = initiator;
+			this.in = in;
+			this.out = out;
+			this.outMac = outMac;
+			this.inMac = inMac;
+		}
+
+		/**
+		 * Writes a frame, the buffer is flushed when no further frames are queued
+		 */
+		private void write(byte[] frame, boolean flush) throws IOException {
+			out.writeInt(frame.length);
+			out.write(frame);
+			out.write(mac(outMac, initiator ? INITIATOR : RESPONDER, sentFrames++, frame));
+			if (flush) {
+				out.flush();
+			}
+		}
+
+		/**
+		 * Reads and checks the HMAC of a received frame
+		 */
+		private void verify(byte[] frame) throws IOException {
+			byte[] expected = mac(inMac, initiator ? RESPONDER : INITIATOR, receivedFrames++, frame);
+			byte[] actual = new byte[MAC_SIZE];
+			in.readFully(actual);
+			if (!MessageDigest.isEqual(expected, actual)) {
+				throw new IOException("Invalid frame signature");
+			}
+		}
+
+		private static byte[] mac(Mac mac, byte sender, long sequence, byte[] frame) {
+			mac.update(sender);
+			mac.update(ByteBuffer.allocate(Long.BYTES).putLong(sequence).array());
+			return mac.doFinal(frame);
+		}
+	}
+}
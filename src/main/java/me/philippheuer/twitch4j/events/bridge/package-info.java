@@ -0,0 +1,4 @@
+/**
+ * The classes in this package forward events of the event dispatcher to the dispatchers of other processes.
+ */
+package me.philippheuer.twitch4j.events.bridge;
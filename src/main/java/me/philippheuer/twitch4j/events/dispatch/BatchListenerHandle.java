@@ -0,0 +1,185 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.Getter;
+import me.philippheuer.twitch4j.events.Event;
+import me.philippheuer.twitch4j.events.EventSubscriber;
+
+/**
+ * A method annotated with {@link EventSubscriber#batchSize()}, which receives a {@code List} of events.
+ * <p>
+ * Events are collected until the batch is full, or the first event of the batch waited {@link EventSubscriber#maxDelayMs()}.
+ * Full batches are delivered on the thread that added the last event, delayed batches on a separate thread
+ * (also for {@link me.philippheuer.twitch4j.enums.SubscriberMode#INLINE} listeners). Batches of a listener are never delivered concurrently.
+ * Temporary listeners are unregistered before their first event, they receive a batch of that single event right away.
+ */
+@Getter
+public class BatchListenerHandle extends ListenerHandle {
+
+	/**
+	 * Listener Method
+	 */
+	private final Method method;
+
+	/**
+	 * Maximum batch size
+	 */
+	private final int batchSize;
+
+	/**
+	 * Maximum delay of the first event in milliseconds
+	 */
+	private final long maxDelayMs;
+
+	/**
+	 * Method handle, accepting a List
+	 */
+	@Getter(AccessLevel.NONE)
+	private final MethodHandle methodHandle;
+
+	/**
+	 * Current batch, guarded by this
+	 */
+	@Getter(AccessLevel.NONE)
+	private List<Event> batch;
+
+	/**
+	 * Delivery of the current batch, guarded by this
+	 */
+	@Getter(AccessLevel.NONE)
+	private ScheduledFuture<?> flushTask;
+
+	/**
+	 * Ensures batches are delivered one at a time
+	 */
+	@Getter(AccessLevel.NONE)
+	private final Object deliveryLock = new Object();
+
+	/**
+	 * Constructor
+	 *
+	 * @param owner     The registered listener (instance or class).
+	 * @param target    Instance the method is invoked on, null for static methods.
+	 * @param method    Listener Method, accepting a List of events.
+	 * @param temporary Whether the listener is temporary.
+	 * @param channel   Channel the listener is scoped to, or null.
+	 */
+	public BatchListenerHandle(Object owner, Object target, Method method, boolean temporary, String channel) {
+		super(owner, resolveEventType(method), temporary, method.getAnnotation(EventSubscriber.class).mode(), channel);
+		this.method = method;
+		this.batchSize = method.getAnnotation(EventSubscriber.class).batchSize();
+		this.maxDelayMs = method.getAnnotation(EventSubscriber.class).maxDelayMs();
+
+		try {
+			method.setAccessible(true);
+			MethodHandle handle = MethodHandles.lookup().unreflect(method);
+			if (!Modifier.isStatic(method.getModifiers())) {
+				handle = handle.bindTo(target);
+			}
+			this.methodHandle = handle.asType(MethodType.methodType(void.class, List.class));
+		} catch (IllegalAccessException ex) {
+			throw new IllegalArgumentException("Can't access listener method " + getName(), ex);
+		}
+	}
+
+	/**
+	 * Checks if a method is a batch listener
+	 *
+	 * @param method The annotated method.
+	 * @return true, if the method accepts a list of events and has a batch size.
+	 */
+	public static boolean isBatchListener(Method method) {
+		return method.getAnnotation(EventSubscriber.class).batchSize() > 0
+				&& method.getParameterTypes()[0] == List.class
+				&& Event.class.isAssignableFrom(resolveEventType(method));
+	}
+
+	/**
+	 * Resolves the element type of the List parameter
+	 */
+	private static Class<?> resolveEventType(Method method) {
+		Type type = method.getGenericParameterTypes()[0];
+		if (type instanceof ParameterizedType) {
+			Type element = ((ParameterizedType) type).getActualTypeArguments()[0];
+			if (element instanceof Class) {
+				return (Class<?>) element;
+			}
+		}
+		return Object.class;
+	}
+
+	@Override
+	public void invoke(Event event) throws Throwable {
+		if (isTemporary()) {
+			deliver(Collections.singletonList(event));
+			return;
+		}
+
+		List<Event> full = null;
+		synchronized (this) {
+			if (batch == null) {
+				batch = new ArrayList<>(Math.min(batchSize, 1024));
+				flushTask = ListenerExecutors.SCHEDULER.schedule(this::flush, maxDelayMs, TimeUnit.MILLISECONDS);
+			}
+			batch.add(event);
+
+			if (batch.size() >= batchSize) {
+				full = takeBatch();
+			}
+		}
+
+		if (full != null) {
+			deliver(full);
+		}
+	}
+
+	/**
+	 * Delivers the current batch, called after the maximum delay
+	 */
+	private void flush() {
+		List<Event> pending;
+		synchronized (this) {
+			pending = takeBatch();
+		}
+
+		if (pending != null) {
+			executeDelayed(() -> deliver(pending));
+		}
+	}
+
+	/**
+	 * Removes the current batch, must hold the lock
+	 */
+	private List<Event> takeBatch() {
+		List<Event> taken = batch;
+		batch = null;
+		if (flushTask != null) {
+			flushTask.cancel(false);
+			flushTask = null;
+		}
+		return taken;
+	}
+
+	private void deliver(List<Event> events) throws Throwable {
+		synchronized (deliveryLock) {
+			methodHandle.invokeExact(events);
+		}
+	}
+
+	@Override
+	public String getName() {
+		return method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+	}
+}
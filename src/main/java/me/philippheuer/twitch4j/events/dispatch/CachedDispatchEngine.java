@@ -0,0 +1,28 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import me.philippheuer.twitch4j.events.Event;
+
+/**
+ * Delivers every event on a cached thread pool, without any ordering guarantees.
+ */
+public class CachedDispatchEngine implements DispatchEngine {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> { //Ensures all threads are daemons
+		Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+		thread.setName("Event Dispatch Thread");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	@Override
+	public void execute(Event event, Runnable delivery) {
+		executor.execute(delivery);
+	}
+
+	@Override
+	public void shutdown() {
+		executor.shutdown();
+	}
+}
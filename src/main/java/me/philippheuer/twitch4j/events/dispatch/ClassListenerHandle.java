@@ -0,0 +1,43 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import me.philippheuer.twitch4j.enums.SubscriberMode;
+import me.philippheuer.twitch4j.events.Event;
+import me.philippheuer.twitch4j.events.IListener;
+
+/**
+ * A registered {@link IListener}.
+ */
+public class ClassListenerHandle extends ListenerHandle {
+
+	/**
+	 * Listener
+	 */
+	@SuppressWarnings("rawtypes")
+	private final IListener listener;
+
+	/**
+	 * Constructor
+	 *
+	 * @param listener  Listener.
+	 * @param eventType Event type resolved from the type argument of the listener.
+	 * @param temporary Whether the listener is temporary.
+	 * @param mode      Thread the listener is invoked on.
+	 * @param channel   Channel the listener is scoped to, or null.
+	 */
+	@SuppressWarnings("rawtypes")
+	public ClassListenerHandle(IListener listener, Class<?> eventType, boolean temporary, SubscriberMode mode, String channel) {
+		super(listener, eventType, temporary, mode, channel);
+		this.listener = listener;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void invoke(Event event) {
+		listener.handle(event);
+	}
+
+	@Override
+	public String getName() {
+		return listener.getClass().getSimpleName();
+	}
+}
@@ -0,0 +1,93 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.Getter;
+import me.philippheuer.twitch4j.events.Event;
+import me.philippheuer.twitch4j.events.EventSubscriber;
+
+/**
+ * A method annotated with {@link EventSubscriber#coalesceMs()}, which only receives the latest event of each
+ * {@link Event#getCoalescingKey()} within the window.
+ * <p>
+ * The first event of a key opens the window, events of the same key replace the pending event until the window closes.
+ * Events without a coalescing key and the single event of a temporary listener are delivered right away, coalesced events on a separate thread
+ * (also for {@link me.philippheuer.twitch4j.enums.SubscriberMode#INLINE} listeners). Events are never delivered concurrently.
+ */
+@Getter
+public class CoalescingListenerHandle extends ListenerHandle {
+
+	/**
+	 * Invokes the listener method
+	 */
+	private final MethodListenerHandle delegate;
+
+	/**
+	 * Window in milliseconds
+	 */
+	private final long window;
+
+	/**
+	 * Latest pending event per coalescing key
+	 */
+	private final Map<Object, Event> pending = new ConcurrentHashMap<>();
+
+	/**
+	 * Ensures events are delivered one at a time
+	 */
+	@Getter(AccessLevel.NONE)
+	private final Object deliveryLock = new Object();
+
+	/**
+	 * Constructor
+	 *
+	 * @param owner     The registered listener (instance or class).
+	 * @param target    Instance the method is invoked on, null for static methods.
+	 * @param method    Listener Method.
+	 * @param temporary Whether the listener is temporary.
+	 * @param channel   Channel the listener is scoped to, or null.
+	 */
+	public CoalescingListenerHandle(Object owner, Object target, Method method, boolean temporary, String channel) {
+		super(owner, method.getParameterTypes()[0], temporary, method.getAnnotation(EventSubscriber.class).mode(), channel);
+		this.delegate = new MethodListenerHandle(owner, target, method, temporary, channel);
+		this.window = method.getAnnotation(EventSubscriber.class).coalesceMs();
+	}
+
+	@Override
+	public void invoke(Event event) throws Throwable {
+		Object key = event.getCoalescingKey();
+		if (key == null || isTemporary()) {
+			deliver(event);
+			return;
+		}
+
+		// only the first event of a window schedules the delivery
+		if (pending.put(key, event) == null) {
+			ListenerExecutors.SCHEDULER.schedule(() -> flush(key), window, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Delivers the latest event of a key
+	 */
+	private void flush(Object key) {
+		Event latest = pending.remove(key);
+		if (latest != null) {
+			executeDelayed(() -> deliver(latest));
+		}
+	}
+
+	private void deliver(Event event) throws Throwable {
+		synchronized (deliveryLock) {
+			delegate.invoke(event);
+		}
+	}
+
+	@Override
+	public String getName() {
+		return delegate.getName();
+	}
+}
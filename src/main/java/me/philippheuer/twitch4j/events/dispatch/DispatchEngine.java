@@ -0,0 +1,43 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import me.philippheuer.twitch4j.enums.EventPriority;
+import me.philippheuer.twitch4j.events.Event;
+
+/**
+ * Executes the delivery of events to their listeners, see {@link me.philippheuer.twitch4j.enums.DispatchMode}.
+ */
+public interface DispatchEngine {
+
+	/**
+	 * Executes the delivery of an event
+	 *
+	 * @param event    The event.
+	 * @param delivery Delivers the event to all listeners.
+	 */
+	void execute(Event event, Runnable delivery);
+
+	/**
+	 * Executes the delivery of an event to listeners of a priority class, engines without priority support ignore the priority
+	 *
+	 * @param event    The event.
+	 * @param priority The priority class of the listeners.
+	 * @param delivery Delivers the event to the listeners.
+	 */
+	default void execute(Event event, EventPriority priority, Runnable delivery) {
+		execute(event, delivery);
+	}
+
+	/**
+	 * Should the delivery to each listener be executed separately? The dispatcher then executes one delivery per listener.
+	 *
+	 * @return true, if every listener is executed on its own
+	 */
+	default boolean isPerListener() {
+		return false;
+	}
+
+	/**
+	 * Stops the engine, already queued events are still delivered.
+	 */
+	void shutdown();
+}
@@ -0,0 +1,67 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * The resolved listeners of a concrete event class.
+ * <p>
+ * A plan is computed once per event class and reused until the registered listeners change,
+ * so dispatching an event doesn't need to scan the type hierarchy of every listener.
+ */
+@Getter
+public class DispatchPlan {
+
+	/**
+	 * Concrete event class
+	 */
+	private final Class<?> eventClass;
+
+	/**
+	 * Version of the listener registry this plan was resolved from
+	 */
+	private final long version;
+
+	/**
+	 * Matching listeners, in registration order
+	 */
+	private final ListenerHandle[] handles;
+
+	/**
+	 * Matching inline listeners, in registration order
+	 */
+	private final ListenerHandle[] inlineHandles;
+
+	/**
+	 * Matching asynchronous listeners, in registration order
+	 */
+	private final ListenerHandle[] asyncHandles;
+
+	private DispatchPlan(Class<?> eventClass, long version, List<ListenerHandle> handles) {
+		this.eventClass = eventClass;
+		this.version = version;
+		this.handles = handles.toArray(new ListenerHandle[0]);
+		this.inlineHandles = handles.stream().filter(ListenerHandle::isInline).toArray(ListenerHandle[]::new);
+		this.asyncHandles = handles.stream().filter(handle -> !handle.isInline()).toArray(ListenerHandle[]::new);
+	}
+
+	/**
+	 * Resolves the listeners of an event class
+	 *
+	 * @param eventClass Concrete event class.
+	 * @param version    Version of the listener registry.
+	 * @param listeners  All registered listeners.
+	 * @return The dispatch plan.
+	 */
+	public static DispatchPlan resolve(Class<?> eventClass, long version, Collection<ListenerHandle> listeners) {
+		List<ListenerHandle> matching = new ArrayList<>();
+		for (ListenerHandle handle : listeners) {
+			if (handle.isActive() && handle.accepts(eventClass)) {
+				matching.add(handle);
+			}
+		}
+		return new DispatchPlan(eventClass, version, matching);
+	}
+}
@@ -0,0 +1,47 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import lombok.Getter;
+import me.philippheuer.twitch4j.events.Event;
+import me.philippheuer.twitch4j.index.IndexedSubscriber;
+
+/**
+ * A subscriber method found in the {@link me.philippheuer.twitch4j.index.ComponentRegistry}, invoked by its generated invoker.
+ */
+@Getter
+public class IndexedListenerHandle extends ListenerHandle {
+
+	/**
+	 * Subscriber Method
+	 */
+	private final IndexedSubscriber subscriber;
+
+	/**
+	 * Instance the method is invoked on, null for static methods
+	 */
+	private final Object target;
+
+	/**
+	 * Constructor
+	 *
+	 * @param owner      The registered listener (instance or class).
+	 * @param target     Instance the method is invoked on, null for static methods.
+	 * @param subscriber Subscriber Method.
+	 * @param temporary  Whether the listener is temporary.
+	 * @param channel    Channel the listener is scoped to, or null.
+	 */
+	public IndexedListenerHandle(Object owner, Object target, IndexedSubscriber subscriber, boolean temporary, String channel) {
+		super(owner, subscriber.getEventType(), temporary, subscriber.getMode(), channel);
+		this.subscriber = subscriber;
+		this.target = subscriber.isStaticMethod() ? null : target;
+	}
+
+	@Override
+	public void invoke(Event event) {
+		subscriber.getInvoker().accept(target, event);
+	}
+
+	@Override
+	public String getName() {
+		return subscriber.getListenerClass().getSimpleName() + "#" + subscriber.getMethodName();
+	}
+}
@@ -0,0 +1,122 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import me.philippheuer.twitch4j.events.Event;
+
+/**
+ * Delivers events with the same {@link Event#getDispatchKey()} in order, and events with different keys in parallel.
+ * <p>
+ * Every key with pending events has a serial queue, which is drained by one thread of a fixed pool at a time.
+ * Queues are removed once they are empty, so idle channels don't use any memory.
+ */
+@Slf4j
+public class KeyedDispatchEngine implements DispatchEngine {
+
+	/**
+	 * Maximum amount of events delivered before the thread is handed to another key
+	 */
+	private static final int MAX_BATCH_SIZE = 64;
+
+	/**
+	 * Thread Pool
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * Serial queues of the keys with pending events
+	 */
+	private final Map<Object, SerialQueue> queues = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param threads Amount of threads.
+	 */
+	public KeyedDispatchEngine(int threads) {
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "Event Dispatch Thread " + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	@Override
+	public void execute(Event event, Runnable delivery) {
+		Object key = event.getDispatchKey();
+		if (key == null) {
+			// no ordering required
+			executor.execute(delivery);
+			return;
+		}
+
+		// compute is atomic per key, so a queue is never removed while an event is added
+		queues.compute(key, (k, queue) -> {
+			if (queue == null) {
+				queue = new SerialQueue(k);
+				queue.tasks.add(delivery);
+				executor.execute(queue);
+			} else {
+				queue.tasks.add(delivery);
+			}
+			return queue;
+		});
+	}
+
+	@Override
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * Events of a single key
+	 */
+	private class SerialQueue implements Runnable {
+
+		private final Object key;
+
+		private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+		private SerialQueue(Object key) {
+			this.key = key;
+		}
+
+		@Override
+		public void run() {
+			for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+				Runnable task = tasks.poll();
+				if (task == null) {
+					break;
+				}
+
+				try {
+					task.run();
+				} catch (Exception ex) {
+					log.error("Unhandled exception caught delivering event with key {}: {}", key, ex.getMessage(), ex);
+				}
+			}
+
+			// remove the queue if it's empty, or continue later to give other keys a chance
+			queues.compute(key, (k, queue) -> {
+				if (tasks.isEmpty()) {
+					return null;
+				}
+				try {
+					executor.execute(this);
+				} catch (RejectedExecutionException ex) {
+					log.warn("Dropped {} events with key {}, the dispatcher has been shut down.", tasks.size(), key);
+					return null;
+				}
+				return queue;
+			});
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Threads used by listeners that deliver events with a delay (batching, coalescing).
+ */
+final class ListenerExecutors {
+
+	/**
+	 * Schedules delayed deliveries
+	 */
+	static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "Event Delay Scheduler");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Executes delayed deliveries, so a slow listener doesn't delay the deliveries of other listeners
+	 */
+	static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+		thread.setName("Event Delay Thread");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private ListenerExecutors() {
+	}
+}
@@ -0,0 +1,135 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A set of listeners with their resolved dispatch plans.
+ * <p>
+ * The dispatcher keeps one group for the global listeners and one group per channel with channel-scoped listeners,
+ * so a change to the listeners of one channel doesn't invalidate the plans of any other group.
+ * <p>
+ * Unregistered listeners stay in the group until more than half of the listeners are inactive,
+ * they are skipped by the dispatcher until the group is compacted.
+ */
+public class ListenerGroup {
+
+	/**
+	 * Registered listeners, in registration order
+	 */
+	private final List<ListenerHandle> listeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Resolved dispatch plans per concrete event class
+	 */
+	private final Map<Class<?>, DispatchPlan> dispatchPlans = new ConcurrentHashMap<>();
+
+	/**
+	 * Version of the listeners, increased on every change
+	 */
+	private final AtomicLong version = new AtomicLong();
+
+	/**
+	 * Amount of inactive listeners since the last compaction
+	 */
+	private final AtomicInteger inactive = new AtomicInteger();
+
+	/**
+	 * Called when the group is empty after a compaction
+	 */
+	private final Runnable onEmpty;
+
+	/**
+	 * Constructor
+	 */
+	public ListenerGroup() {
+		this(() -> {});
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param onEmpty Called when the group is empty after a compaction.
+	 */
+	public ListenerGroup(Runnable onEmpty) {
+		this.onEmpty = onEmpty;
+	}
+
+	/**
+	 * Adds a listener and invalidates the dispatch plans
+	 *
+	 * @param handle The listener.
+	 */
+	public void add(ListenerHandle handle) {
+		handle.group = this;
+		listeners.add(handle);
+		invalidateDispatchPlans();
+	}
+
+	/**
+	 * Calls the action for every listener, including inactive listeners
+	 *
+	 * @param action The action.
+	 */
+	public void forEach(Consumer<ListenerHandle> action) {
+		listeners.forEach(action);
+	}
+
+	/**
+	 * Checks if the group has no listeners
+	 *
+	 * @return true, if empty
+	 */
+	public boolean isEmpty() {
+		return listeners.isEmpty();
+	}
+
+	/**
+	 * Gets the dispatch plan of an event class, the plan is resolved once and reused until the listeners change.
+	 *
+	 * @param eventClass The concrete event class.
+	 * @return The dispatch plan.
+	 */
+	public DispatchPlan getDispatchPlan(Class<?> eventClass) {
+		// read the version first, a plan resolved during a change will be outdated right away
+		long version = this.version.get();
+		DispatchPlan plan = dispatchPlans.get(eventClass);
+		if (plan == null || plan.getVersion() != version) {
+			plan = DispatchPlan.resolve(eventClass, version, listeners);
+			dispatchPlans.put(eventClass, plan);
+		}
+		return plan;
+	}
+
+	/**
+	 * Called when a listener of this group has been unregistered
+	 */
+	void onDeactivated() {
+		if (inactive.incrementAndGet() > listeners.size() / 2) {
+			compact();
+		}
+	}
+
+	/**
+	 * Removes the inactive listeners
+	 */
+	private void compact() {
+		inactive.set(0);
+		if (listeners.removeIf(handle -> !handle.isActive())) {
+			invalidateDispatchPlans();
+		}
+		if (listeners.isEmpty()) {
+			onEmpty.run();
+		}
+	}
+
+	private void invalidateDispatchPlans() {
+		version.incrementAndGet();
+		dispatchPlans.clear();
+	}
+}
@@ -0,0 +1,204 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import me.philippheuer.twitch4j.enums.EventPriority;
+import me.philippheuer.twitch4j.enums.SubscriberMode;
+import me.philippheuer.twitch4j.events.Event;
+
+/**
+ * A registered listener for a single event type.
+ */
+@Getter
+@Slf4j
+public abstract class ListenerHandle {
+
+	/**
+	 * The registered listener (instance, class with static methods or {@link me.philippheuer.twitch4j.events.IListener})
+	 */
+	private final Object owner;
+
+	/**
+	 * Event type handled by the listener
+	 */
+	private final Class<?> eventType;
+
+	/**
+	 * Whether the listener is temporary.
+	 */
+	private final boolean temporary;
+
+	/**
+	 * Thread the listener is invoked on
+	 */
+	private final SubscriberMode mode;
+
+	/**
+	 * Channel the listener is scoped to, null if the listener receives the events of all channels
+	 */
+	private final String channel;
+
+	/**
+	 * Priority class of the listener, null to use the priority of the event
+	 */
+	@Setter
+	private volatile EventPriority priority;
+
+	/**
+	 * Soft deadline in milliseconds, negative to use the deadline of the {@link ListenerWatchdog}
+	 */
+	@Setter
+	private volatile long softDeadlineMs = -1;
+
+	/**
+	 * Hard deadline in milliseconds, negative to use the deadline of the {@link ListenerWatchdog}
+	 */
+	@Setter
+	private volatile long hardDeadlineMs = -1;
+
+	/**
+	 * Is the listener excluded from the quarantine? Used by listeners that block the dispatching thread on purpose.
+	 */
+	@Setter
+	private volatile boolean quarantineExempt;
+
+	/**
+	 * Execution times
+	 */
+	private final ListenerStats stats = new ListenerStats();
+
+	/**
+	 * Is the listener invoked on the quarantine executor? See {@link ListenerWatchdog}
+	 */
+	volatile boolean quarantined;
+
+	/**
+	 * Deliveries waiting on the quarantine executor, created once quarantined
+	 */
+	volatile ListenerWatchdog.QuarantineQueue quarantineQueue;
+
+	/**
+	 * Watchdog measuring the delayed deliveries, set once registered
+	 */
+	volatile ListenerWatchdog watchdog;
+
+	/**
+	 * Registration this listener belongs to, set once registered
+	 */
+	volatile ListenerRegistration registration;
+
+	/**
+	 * Group this listener has been added to
+	 */
+	volatile ListenerGroup group;
+
+	/**
+	 * Constructor
+	 *
+	 * @param owner     The registered listener.
+	 * @param eventType Event type handled by the listener.
+	 * @param temporary Whether the listener is temporary.
+	 * @param mode      Thread the listener is invoked on.
+	 * @param channel   Channel the listener is scoped to, or null.
+	 */
+	protected ListenerHandle(Object owner, Class<?> eventType, boolean temporary, SubscriberMode mode, String channel) {
+		this.owner = owner;
+		this.eventType = eventType;
+		this.temporary = temporary;
+		this.mode = mode;
+		this.channel = (channel != null) ? channel.toLowerCase() : null;
+	}
+
+	/**
+	 * Gets the registration this listener belongs to
+	 *
+	 * @return The registration.
+	 */
+	public ListenerRegistration getRegistration() {
+		return registration;
+	}
+
+	/**
+	 * Checks if the listener is still registered
+	 *
+	 * @return true, if active
+	 */
+	public boolean isActive() {
+		ListenerRegistration registration = this.registration;
+		return registration == null || registration.isActive();
+	}
+
+	/**
+	 * Checks if the listener has been quarantined for exceeding its deadlines
+	 *
+	 * @return true, if quarantined
+	 */
+	public boolean isQuarantined() {
+		return quarantined;
+	}
+
+	/**
+	 * Checks if the listener is invoked on the dispatching thread
+	 *
+	 * @return true, if inline
+	 */
+	public boolean isInline() {
+		return mode == SubscriberMode.INLINE;
+	}
+
+	/**
+	 * Checks if the listener handles the event class
+	 *
+	 * @param eventClass The concrete event class.
+	 * @return true, if the event is assignable to the event type of the listener.
+	 */
+	public boolean accepts(Class<?> eventClass) {
+		return eventType.isAssignableFrom(eventClass);
+	}
+
+	/**
+	 * Executes a delivery made after the event has been dispatched (batches, coalesced events) on a separate thread.
+	 * The delivery is measured by the watchdog, and skipped if the listener has been unregistered in the meantime.
+	 *
+	 * @param delivery Invokes the listener.
+	 */
+	protected void executeDelayed(ListenerWatchdog.Invocation delivery) {
+		ListenerWatchdog watchdog = this.watchdog;
+		Runnable task = () -> {
+			if (!isActive()) {
+				return;
+			}
+			try {
+				if (watchdog != null) {
+					watchdog.invoke(this, delivery);
+				} else {
+					delivery.run();
+				}
+			} catch (Throwable ex) {
+				log.error("Unhandled exception caught in delayed delivery to {} [{}]", getName(), ex.getMessage(), ex);
+			}
+		};
+
+		if (quarantined && watchdog != null) {
+			watchdog.executeQuarantined(this, task);
+		} else {
+			ListenerExecutors.EXECUTOR.execute(task);
+		}
+	}
+
+	/**
+	 * Invokes the listener
+	 *
+	 * @param event The event.
+	 * @throws Throwable Any exception thrown by the listener.
+	 */
+	public abstract void invoke(Event event) throws Throwable;
+
+	/**
+	 * Gets the name of the listener, used for logging
+	 *
+	 * @return name
+	 */
+	public abstract String getName();
+}
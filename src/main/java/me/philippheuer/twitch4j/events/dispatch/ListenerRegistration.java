@@ -0,0 +1,100 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Getter;
+import me.philippheuer.twitch4j.enums.EventPriority;
+
+/**
+ * The listeners registered by a single call to {@link me.philippheuer.twitch4j.events.EventDispatcher#registerListener(Object)}.
+ * <p>
+ * Unregistering only flips the active flag, inactive listeners are skipped by the dispatcher and removed
+ * from the listener arrays in batches, so unregistering doesn't copy any array.
+ */
+public class ListenerRegistration {
+
+	/**
+	 * Registered listeners
+	 */
+	@Getter
+	private final List<ListenerHandle> handles;
+
+	/**
+	 * Is the registration active?
+	 */
+	private final AtomicBoolean active = new AtomicBoolean(true);
+
+	/**
+	 * Constructor
+	 *
+	 * @param handles The registered listeners.
+	 */
+	public ListenerRegistration(List<ListenerHandle> handles) {
+		this.handles = Collections.unmodifiableList(handles);
+		handles.forEach(handle -> handle.registration = this);
+	}
+
+	/**
+	 * Checks if the listeners are still registered
+	 *
+	 * @return true, if active
+	 */
+	public boolean isActive() {
+		return active.get();
+	}
+
+	/**
+	 * Sets the priority class of all listeners of this registration
+	 *
+	 * @param priority The priority class, null to use the priority of the events.
+	 * @return This registration.
+	 */
+	public ListenerRegistration setPriority(EventPriority priority) {
+		handles.forEach(handle -> handle.setPriority(priority));
+		return this;
+	}
+
+	/**
+	 * Sets the deadlines of all listeners of this registration, see {@link ListenerWatchdog}
+	 *
+	 * @param softDeadlineMs Soft deadline in milliseconds, negative to use the deadline of the watchdog.
+	 * @param hardDeadlineMs Hard deadline in milliseconds, negative to use the deadline of the watchdog.
+	 * @return This registration.
+	 */
+	public ListenerRegistration setDeadlines(long softDeadlineMs, long hardDeadlineMs) {
+		handles.forEach(handle -> {
+			handle.setSoftDeadlineMs(softDeadlineMs);
+			handle.setHardDeadlineMs(hardDeadlineMs);
+		});
+		return this;
+	}
+
+	/**
+	 * Excludes all listeners of this registration from the quarantine, for listeners that block on purpose
+	 *
+	 * @return This registration.
+	 */
+	public ListenerRegistration exemptFromQuarantine() {
+		handles.forEach(handle -> handle.setQuarantineExempt(true));
+		return this;
+	}
+
+	/**
+	 * Unregisters all listeners of this registration
+	 *
+	 * @return true, if this call unregistered the listeners, false if they were already unregistered
+	 */
+	public boolean unregister() {
+		if (!active.compareAndSet(true, false)) {
+			return false;
+		}
+
+		for (ListenerHandle handle : handles) {
+			if (handle.group != null) {
+				handle.group.onDeactivated();
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,78 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution times of a listener, recorded by the {@link ListenerWatchdog}.
+ */
+public class ListenerStats {
+
+	private final LongAdder invocations = new LongAdder();
+
+	private final LongAdder totalNanos = new LongAdder();
+
+	private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Recent soft deadline overruns, decreased by every invocation within the deadline
+	 */
+	private final AtomicInteger overruns = new AtomicInteger();
+
+	/**
+	 * Records an invocation
+	 *
+	 * @param nanos         Execution time.
+	 * @param softDeadline  Soft deadline in nanoseconds.
+	 * @return The amount of recent overruns.
+	 */
+	int record(long nanos, long softDeadline) {
+		invocations.increment();
+		totalNanos.add(nanos);
+		maxNanos.accumulate(nanos);
+
+		if (nanos > softDeadline) {
+			return overruns.incrementAndGet();
+		}
+		return overruns.updateAndGet(current -> Math.max(0, current - 1));
+	}
+
+	/**
+	 * Gets the amount of invocations
+	 *
+	 * @return Amount of invocations.
+	 */
+	public long getInvocations() {
+		return invocations.sum();
+	}
+
+	/**
+	 * Gets the average execution time
+	 *
+	 * @return Average execution time in milliseconds.
+	 */
+	public double getAverageMillis() {
+		long count = invocations.sum();
+		return (count == 0) ? 0 : (double) totalNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	/**
+	 * Gets the maximum execution time
+	 *
+	 * @return Maximum execution time in milliseconds.
+	 */
+	public long getMaxMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+	}
+
+	/**
+	 * Gets the amount of recent soft deadline overruns
+	 *
+	 * @return Amount of recent overruns.
+	 */
+	public int getOverruns() {
+		return overruns.get();
+	}
+}
@@ -0,0 +1,359 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import me.philippheuer.twitch4j.events.Event;
+
+/**
+ * Measures the execution time of the listeners and quarantines listeners that exceed their deadlines.
+ * <p>
+ * A listener is quarantined if it exceeds the soft deadline {@link #getQuarantineThreshold()} times more often than it
+ * stays within the deadline, or if it is still running after the hard deadline. Listeners can override the deadlines,
+ * or be excluded from the quarantine if they block on purpose.
+ * <p>
+ * Quarantined listeners are invoked on a separate executor, so they can't delay the other listeners. Every quarantined
+ * listener has its own bounded queue, its events are delivered in order and dropped if the queue is full.
+ */
+@Getter
+@Setter
+@Slf4j
+public class ListenerWatchdog {
+
+	/**
+	 * Interval of the hard deadline check in milliseconds
+	 */
+	private static final long CHECK_INTERVAL = 100;
+
+	/**
+	 * Soft deadline in milliseconds
+	 */
+	private volatile long softDeadlineMs = 250;
+
+	/**
+	 * Hard deadline in milliseconds
+	 */
+	private volatile long hardDeadlineMs = 5000;
+
+	/**
+	 * Amount of recent soft deadline overruns that quarantine a listener
+	 */
+	private volatile int quarantineThreshold = 5;
+
+	/**
+	 * Called when a listener has been quarantined, with the reason
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final BiConsumer<ListenerHandle, String> quarantineCallback;
+
+	/**
+	 * Invocation slots of all threads that invoked a listener
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final Set<InvocationSlot> slots = ConcurrentHashMap.newKeySet();
+
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final ThreadLocal<InvocationSlot> currentSlot = ThreadLocal.withInitial(() -> {
+		InvocationSlot slot = new InvocationSlot(Thread.currentThread());
+		slots.add(slot);
+		return slot;
+	});
+
+	/**
+	 * Executes the quarantined listeners
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final ThreadPoolExecutor quarantineExecutor;
+
+	/**
+	 * Maximum amount of queued events per quarantined listener
+	 */
+	@Setter(AccessLevel.NONE)
+	private final int quarantineQueueSize;
+
+	/**
+	 * Events dropped because the quarantine queue was full
+	 */
+	@Setter(AccessLevel.NONE)
+	private final AtomicLong droppedEvents = new AtomicLong();
+
+	/**
+	 * Checks the hard deadlines
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "Event Listener Watchdog");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Constructor
+	 *
+	 * @param quarantineThreads   Amount of threads for the quarantined listeners.
+	 * @param quarantineQueueSize Maximum amount of queued events per quarantined listener.
+	 * @param quarantineCallback  Called when a listener has been quarantined, with the reason.
+	 */
+	public ListenerWatchdog(int quarantineThreads, int quarantineQueueSize, BiConsumer<ListenerHandle, String> quarantineCallback) {
+		this.quarantineCallback = quarantineCallback;
+		this.quarantineQueueSize = quarantineQueueSize;
+		// holds at most one drain task per quarantined listener
+		this.quarantineExecutor = new ThreadPoolExecutor(quarantineThreads, quarantineThreads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+			thread.setName("Quarantined Listener Thread");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.quarantineExecutor.allowCoreThreadTimeOut(true);
+		this.scheduler.scheduleWithFixedDelay(this::checkHardDeadlines, CHECK_INTERVAL, CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Invokes a listener and records its execution time
+	 *
+	 * @param handle The listener.
+	 * @param event  The event.
+	 * @throws Throwable Any exception thrown by the listener.
+	 */
+	public void invoke(ListenerHandle handle, Event event) throws Throwable {
+		InvocationSlot slot = currentSlot.get();
+		ListenerHandle outerHandle = slot.handle;
+		long outerStart = slot.startNanos;
+
+		long start = System.nanoTime();
+		slot.enter(handle, start);
+		try {
+			handle.invoke(event);
+		} finally {
+			exit(slot, handle, start, outerHandle, outerStart);
+		}
+	}
+
+	/**
+	 * Runs a delayed delivery of a listener (batch, coalesced event) and records its execution time
+	 *
+	 * @param handle     The listener.
+	 * @param invocation Invokes the listener.
+	 * @throws Throwable Any exception thrown by the listener.
+	 */
+	public void invoke(ListenerHandle handle, Invocation invocation) throws Throwable {
+		InvocationSlot slot = currentSlot.get();
+		ListenerHandle outerHandle = slot.handle;
+		long outerStart = slot.startNanos;
+
+		long start = System.nanoTime();
+		slot.enter(handle, start);
+		try {
+			invocation.run();
+		} finally {
+			exit(slot, handle, start, outerHandle, outerStart);
+		}
+	}
+
+	/**
+	 * Records the execution time once the listener returned
+	 */
+	private void exit(InvocationSlot slot, ListenerHandle handle, long start, ListenerHandle outerHandle, long outerStart) {
+		slot.enter(outerHandle, outerStart);
+		long duration = System.nanoTime() - start;
+		long softDeadline = getSoftDeadlineMs(handle);
+		int overruns = handle.getStats().record(duration, TimeUnit.MILLISECONDS.toNanos(softDeadline));
+		if (overruns >= quarantineThreshold) {
+			quarantine(handle, String.format("exceeded the soft deadline of %dms %d times, last run took %dms", softDeadline, overruns, TimeUnit.NANOSECONDS.toMillis(duration)));
+		}
+	}
+
+	/**
+	 * Attaches a registered listener, so its delayed deliveries are measured
+	 *
+	 * @param handle The listener.
+	 */
+	public void attach(ListenerHandle handle) {
+		handle.watchdog = this;
+	}
+
+	/**
+	 * Invokes a quarantined listener on the quarantine executor
+	 *
+	 * @param handle   The listener.
+	 * @param delivery Invokes the listener.
+	 */
+	public void executeQuarantined(ListenerHandle handle, Runnable delivery) {
+		QuarantineQueue queue = handle.quarantineQueue;
+		if (queue == null) {
+			synchronized (handle) {
+				if (handle.quarantineQueue == null) {
+					handle.quarantineQueue = new QuarantineQueue(handle);
+				}
+				queue = handle.quarantineQueue;
+			}
+		}
+		queue.add(delivery);
+	}
+
+	/**
+	 * Gets the soft deadline of a listener
+	 *
+	 * @param handle The listener.
+	 * @return The soft deadline in milliseconds.
+	 */
+	public long getSoftDeadlineMs(ListenerHandle handle) {
+		return (handle.getSoftDeadlineMs() >= 0) ? handle.getSoftDeadlineMs() : softDeadlineMs;
+	}
+
+	/**
+	 * Gets the hard deadline of a listener
+	 *
+	 * @param handle The listener.
+	 * @return The hard deadline in milliseconds.
+	 */
+	public long getHardDeadlineMs(ListenerHandle handle) {
+		return (handle.getHardDeadlineMs() >= 0) ? handle.getHardDeadlineMs() : hardDeadlineMs;
+	}
+
+	/**
+	 * Moves a listener to the quarantine executor
+	 *
+	 * @param handle The listener.
+	 * @param reason The reason.
+	 */
+	public void quarantine(ListenerHandle handle, String reason) {
+		if (handle.quarantined || handle.isQuarantineExempt()) {
+			return;
+		}
+		handle.quarantined = true;
+
+		log.warn("Quarantined listener {}: {}", handle.getName(), reason);
+		quarantineCallback.accept(handle, reason);
+	}
+
+	/**
+	 * Moves a quarantined listener back to the regular dispatch
+	 *
+	 * @param handle The listener.
+	 */
+	public void release(ListenerHandle handle) {
+		handle.quarantined = false;
+		log.info("Released listener {} from quarantine.", handle.getName());
+	}
+
+	/**
+	 * Quarantines listeners that are running longer than the hard deadline
+	 */
+	private void checkHardDeadlines() {
+		long now = System.nanoTime();
+		for (InvocationSlot slot : slots) {
+			if (!slot.thread.isAlive()) {
+				slots.remove(slot);
+				continue;
+			}
+
+			ListenerHandle handle = slot.handle;
+			long start = slot.startNanos;
+			if (handle == null) {
+				continue;
+			}
+			long hardDeadline = getHardDeadlineMs(handle);
+			if (now - start > TimeUnit.MILLISECONDS.toNanos(hardDeadline) && slot.handle == handle && slot.startNanos == start) {
+				quarantine(handle, String.format("running for %dms on thread %s, exceeding the hard deadline of %dms", TimeUnit.NANOSECONDS.toMillis(now - start), slot.thread.getName(), hardDeadline));
+			}
+		}
+	}
+
+	/**
+	 * A delivery to a listener
+	 */
+	@FunctionalInterface
+	public interface Invocation {
+		void run() throws Throwable;
+	}
+
+	/**
+	 * Events of a quarantined listener, drained by one quarantine thread at a time
+	 */
+	final class QuarantineQueue implements Runnable {
+
+		private final ListenerHandle handle;
+
+		private final Queue<Runnable> deliveries = new ConcurrentLinkedQueue<>();
+
+		/**
+		 * Amount of queued deliveries, the queue is scheduled when it changes from 0 to 1
+		 */
+		private final AtomicInteger size = new AtomicInteger();
+
+		private QuarantineQueue(ListenerHandle handle) {
+			this.handle = handle;
+		}
+
+		private void add(Runnable delivery) {
+			if (size.get() >= quarantineQueueSize) {
+				if (droppedEvents.incrementAndGet() % 1000 == 1) {
+					log.warn("Quarantine queue is full, dropped events of {} ({} dropped in total).", handle.getName(), droppedEvents.get());
+				}
+				return;
+			}
+
+			deliveries.add(delivery);
+			if (size.getAndIncrement() == 0) {
+				try {
+					quarantineExecutor.execute(this);
+				} catch (RejectedExecutionException ex) {
+					log.warn("Dropped events of {}, the quarantine executor has been shut down.", handle.getName());
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			do {
+				Runnable delivery = deliveries.poll();
+				try {
+					delivery.run();
+				} catch (Exception ex) {
+					log.error("Unhandled exception caught delivering to quarantined listener {}: {}", handle.getName(), ex.getMessage(), ex);
+				}
+			} while (size.decrementAndGet() > 0);
+		}
+	}
+
+	/**
+	 * The listener currently invoked by a thread
+	 */
+	private static class InvocationSlot {
+
+		private final Thread thread;
+
+		private volatile ListenerHandle handle;
+
+		private volatile long startNanos;
+
+		private InvocationSlot(Thread thread) {
+			this.thread = thread;
+		}
+
+		private void enter(ListenerHandle handle, long startNanos) {
+			this.startNanos = startNanos;
+			this.handle = handle;
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Consumer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import me.philippheuer.twitch4j.events.Event;
+import me.philippheuer.twitch4j.events.EventSubscriber;
+
+/**
+ * A method annotated with {@link me.philippheuer.twitch4j.events.EventSubscriber}.
+ * <p>
+ * The method is called using a generated invoker ({@link LambdaMetafactory}), which the JIT can inline like
+ * a regular method call. Methods that can't be linked that way (non-public classes, other class loaders)
+ * are called using a {@link MethodHandle}.
+ */
+@Getter
+@Slf4j
+public class MethodListenerHandle extends ListenerHandle {
+
+	/**
+	 * Lookup used to link the listener methods
+	 */
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	/**
+	 * Listener Method
+	 */
+	private final Method method;
+
+	/**
+	 * Instance the method is invoked on, null for static methods
+	 */
+	private final Object target;
+
+	/**
+	 * Generated invoker, bound to the target
+	 */
+	@Getter(AccessLevel.NONE)
+	private final Consumer<Event> invoker;
+
+	/**
+	 * Method handle, if no invoker could be generated
+	 */
+	@Getter(AccessLevel.NONE)
+	private final MethodHandle methodHandle;
+
+	/**
+	 * Constructor
+	 *
+	 * @param owner     The registered listener (instance or class).
+	 * @param target    Instance the method is invoked on, null for static methods.
+	 * @param method    Listener Method.
+	 * @param temporary Whether the listener is temporary.
+	 * @param channel   Channel the listener is scoped to, or null.
+	 */
+	public MethodListenerHandle(Object owner, Object target, Method method, boolean temporary, String channel) {
+		super(owner, method.getParameterTypes()[0], temporary, method.getAnnotation(EventSubscriber.class).mode(), channel);
+		this.method = method;
+		this.target = Modifier.isStatic(method.getModifiers()) ? null : target;
+
+		Consumer<Event> invoker = null;
+		MethodHandle methodHandle = null;
+		try {
+			invoker = createInvoker();
+		} catch (Throwable ex) {
+			log.trace("Can't generate invoker for {}, using a method handle: {}", getName(), ex.getMessage());
+			methodHandle = createMethodHandle();
+		}
+		this.invoker = invoker;
+		this.methodHandle = methodHandle;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Consumer<Event> createInvoker() throws Throwable {
+		if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+			throw new IllegalAccessException("declaring class is not public");
+		}
+
+		MethodHandle implementation = LOOKUP.unreflect(method);
+		MethodType invokedType = (target == null) ? MethodType.methodType(Consumer.class) : MethodType.methodType(Consumer.class, method.getDeclaringClass());
+		CallSite site = LambdaMetafactory.metafactory(
+				LOOKUP,
+				"accept",
+				invokedType,
+				MethodType.methodType(void.class, Object.class),
+				implementation,
+				MethodType.methodType(void.class, getEventType())
+		);
+
+		return (target == null) ? (Consumer<Event>) site.getTarget().invoke() : (Consumer<Event>) site.getTarget().invoke(target);
+	}
+
+	private MethodHandle createMethodHandle() {
+		try {
+			method.setAccessible(true);
+			MethodHandle handle = LOOKUP.unreflect(method);
+			if (target != null) {
+				handle = handle.bindTo(target);
+			}
+			return handle.asType(MethodType.methodType(void.class, Event.class));
+		} catch (IllegalAccessException ex) {
+			throw new IllegalArgumentException("Can't access listener method " + getName(), ex);
+		}
+	}
+
+	@Override
+	public void invoke(Event event) throws Throwable {
+		if (invoker != null) {
+			invoker.accept(event);
+		} else {
+			methodHandle.invokeExact(event);
+		}
+	}
+
+	@Override
+	public String getName() {
+		return method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+	}
+}
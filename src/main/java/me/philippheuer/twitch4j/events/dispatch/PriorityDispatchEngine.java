@@ -0,0 +1,219 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import me.philippheuer.twitch4j.enums.EventPriority;
+import me.philippheuer.twitch4j.events.Event;
+
+/**
+ * Delivers events in the order of their {@link EventPriority}, see {@link me.philippheuer.twitch4j.enums.DispatchMode#PRIORITY}.
+ * <p>
+ * Every priority class has its own queue. The workers always take the head of the highest priority queue,
+ * unless the head of a queue waited longer than the maximum wait time, then the longest waiting delivery is taken first.
+ * An additional worker only delivers {@link EventPriority#SYSTEM} and {@link EventPriority#MODERATION} events,
+ * so they are delivered immediately even if all other workers are busy with slow listeners.
+ */
+@Slf4j
+public class PriorityDispatchEngine implements DispatchEngine {
+
+	/**
+	 * Default maximum time a delivery waits before it is preferred over deliveries of higher priority
+	 */
+	public static final long DEFAULT_MAX_WAIT_MS = 1000;
+
+	/**
+	 * Priority classes, ordered from the highest to the lowest priority
+	 */
+	private static final EventPriority[] PRIORITIES = EventPriority.values();
+
+	/**
+	 * Lowest priority class delivered by the reserved worker
+	 */
+	private static final EventPriority RESERVED_PRIORITY = EventPriority.MODERATION;
+
+	/**
+	 * Maximum wait time in nanoseconds
+	 */
+	private final long maxWaitNanos;
+
+	/**
+	 * Queue per priority class, guarded by the lock
+	 */
+	private final List<ArrayDeque<QueuedDelivery>> queues = new ArrayList<>();
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * Signalled when a delivery has been queued
+	 */
+	private final Condition queued = lock.newCondition();
+
+	/**
+	 * Signalled when a delivery for the reserved worker has been queued
+	 */
+	private final Condition reservedQueued = lock.newCondition();
+
+	private volatile boolean running = true;
+
+	/**
+	 * Constructor
+	 *
+	 * @param threads   Amount of threads delivering all priority classes.
+	 * @param maxWaitMs Maximum time a delivery waits before it is preferred over deliveries of higher priority.
+	 */
+	public PriorityDispatchEngine(int threads, long maxWaitMs) {
+		this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+		for (int i = 0; i < PRIORITIES.length; i++) {
+			queues.add(new ArrayDeque<>());
+		}
+
+		for (int i = 1; i <= threads; i++) {
+			startWorker("Event Dispatch Thread " + i, PRIORITIES[PRIORITIES.length - 1], queued);
+		}
+		startWorker("Event Dispatch Thread (" + RESERVED_PRIORITY + ")", RESERVED_PRIORITY, reservedQueued);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param threads Amount of threads delivering all priority classes.
+	 */
+	public PriorityDispatchEngine(int threads) {
+		this(threads, DEFAULT_MAX_WAIT_MS);
+	}
+
+	@Override
+	public void execute(Event event, Runnable delivery) {
+		execute(event, event.getPriority(), delivery);
+	}
+
+	@Override
+	public void execute(Event event, EventPriority priority, Runnable delivery) {
+		lock.lock();
+		try {
+			if (!running) {
+				log.warn("Dropped {}, the dispatcher has been shut down.", event.getClass().getSimpleName());
+				return;
+			}
+
+			queues.get(priority.ordinal()).addLast(new QueuedDelivery(delivery, System.nanoTime()));
+			queued.signal();
+			if (priority.compareTo(RESERVED_PRIORITY) <= 0) {
+				reservedQueued.signal();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the amount of queued deliveries
+	 *
+	 * @param priority The priority class.
+	 * @return The queue size.
+	 */
+	public int getQueueSize(EventPriority priority) {
+		lock.lock();
+		try {
+			return queues.get(priority.ordinal()).size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		lock.lock();
+		try {
+			running = false;
+			queued.signalAll();
+			reservedQueued.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void startWorker(String name, EventPriority lowest, Condition condition) {
+		Thread thread = new Thread(() -> run(lowest, condition), name);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private void run(EventPriority lowest, Condition condition) {
+		while (true) {
+			Runnable delivery;
+			lock.lock();
+			try {
+				QueuedDelivery next;
+				while ((next = poll(lowest)) == null) {
+					if (!running) {
+						return;
+					}
+					condition.await();
+				}
+				delivery = next.delivery;
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				lock.unlock();
+			}
+
+			try {
+				delivery.run();
+			} catch (Exception ex) {
+				log.error("Unhandled exception caught delivering event: {}", ex.getMessage(), ex);
+			}
+		}
+	}
+
+	/**
+	 * Takes the next delivery, must hold the lock
+	 *
+	 * @param lowest Lowest priority class served by the worker.
+	 * @return The delivery, or null if nothing is queued.
+	 */
+	private QueuedDelivery poll(EventPriority lowest) {
+		long now = System.nanoTime();
+		ArrayDeque<QueuedDelivery> next = null;
+		ArrayDeque<QueuedDelivery> starving = null;
+		for (int i = 0; i <= lowest.ordinal(); i++) {
+			ArrayDeque<QueuedDelivery> queue = queues.get(i);
+			QueuedDelivery head = queue.peekFirst();
+			if (head == null) {
+				continue;
+			}
+			if (next == null) {
+				next = queue;
+			}
+			if (now - head.queuedAt > maxWaitNanos && (starving == null || head.queuedAt < starving.peekFirst().queuedAt)) {
+				starving = queue;
+			}
+		}
+
+		if (starving != null) {
+			return starving.pollFirst();
+		}
+		return (next != null) ? next.pollFirst() : null;
+	}
+
+	/**
+	 * A queued delivery
+	 */
+	private static class QueuedDelivery {
+
+		private final Runnable delivery;
+
+		private final long queuedAt;
+
+		private QueuedDelivery(Runnable delivery, long queuedAt) {
+			this.delivery = delivery;
+			this.queuedAt = queuedAt;
+		}
+	}
+}
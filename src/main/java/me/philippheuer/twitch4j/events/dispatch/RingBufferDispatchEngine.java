@@ -0,0 +1,286 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import me.philippheuer.twitch4j.enums.WaitStrategy;
+import me.philippheuer.twitch4j.events.Event;
+
+/**
+ * Delivers events through a preallocated multi-producer ring buffer.
+ * <p>
+ * Producers claim a sequence with a single CAS and publish the event into the slot of that sequence, no locks are taken
+ * and no task objects are allocated. Each consumer thread reads all published sequences in batches and delivers the
+ * events it owns: events with a {@link Event#getDispatchKey()} are owned by the consumer of the key hash, so events of
+ * the same key are delivered in order. Producers wait if the buffer is full, until the slowest consumer caught up.
+ * <p>
+ * Listeners run on the consumer threads, blocking listeners stall all keys of their consumer.
+ */
+@Slf4j
+public class RingBufferDispatchEngine implements DispatchEngine {
+
+	/**
+	 * Spins before the consumers yield or park
+	 */
+	private static final int SPIN_TRIES = 100;
+
+	/**
+	 * Index mask, the buffer size is a power of two
+	 */
+	private final int mask;
+
+	/**
+	 * Deliveries per slot
+	 */
+	private final Runnable[] deliveries;
+
+	/**
+	 * Dispatch keys per slot
+	 */
+	private final Object[] keys;
+
+	/**
+	 * Published sequence per slot
+	 */
+	private final AtomicLongArray published;
+
+	/**
+	 * Highest claimed sequence
+	 */
+	private final AtomicLong claimed = new AtomicLong(-1);
+
+	/**
+	 * Lowest sequence processed by all consumers, as last seen by the producers
+	 */
+	private volatile long gatingSequence = -1;
+
+	/**
+	 * Consumers
+	 */
+	private final EventConsumer[] consumers;
+
+	/**
+	 * Wait Strategy
+	 */
+	private final WaitStrategy waitStrategy;
+
+	/**
+	 * Lock and condition used by {@link WaitStrategy#BLOCKING}
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition eventPublished = lock.newCondition();
+
+	/**
+	 * Amount of blocked consumers, producers only signal if a consumer is waiting
+	 */
+	private final AtomicInteger blockedConsumers = new AtomicInteger();
+
+	private volatile boolean running = true;
+
+	/**
+	 * Constructor
+	 *
+	 * @param bufferSize   Amount of slots, rounded up to a power of two.
+	 * @param consumers    Amount of consumer threads.
+	 * @param waitStrategy Wait Strategy of the consumers.
+	 */
+	public RingBufferDispatchEngine(int bufferSize, int consumers, WaitStrategy waitStrategy) {
+		int size = Integer.highestOneBit(Math.max(2, bufferSize) - 1) << 1;
+		this.mask = size - 1;
+		this.deliveries = new Runnable[size];
+		this.keys = new Object[size];
+		this.published = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			published.set(i, -1);
+		}
+		this.waitStrategy = waitStrategy;
+
+		this.consumers = new EventConsumer[Math.max(1, consumers)];
+		for (int i = 0; i < this.consumers.length; i++) {
+			this.consumers[i] = new EventConsumer(i);
+			Thread thread = new Thread(this.consumers[i], "Event Dispatch Thread " + (i + 1));
+			thread.setDaemon(true);
+			thread.start();
+		}
+	}
+
+	@Override
+	public void execute(Event event, Runnable delivery) {
+		long sequence = claim();
+		int index = (int) sequence & mask;
+		deliveries[index] = delivery;
+		keys[index] = event.getDispatchKey();
+		// volatile store, so it can't be reordered with the check of the blocked consumers below
+		published.set(index, sequence);
+
+		if (blockedConsumers.get() > 0) {
+			lock.lock();
+			try {
+				eventPublished.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		running = false;
+		lock.lock();
+		try {
+			eventPublished.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Claims the next sequence, waits while the buffer is full
+	 */
+	private long claim() {
+		while (true) {
+			if (!running) {
+				throw new RejectedExecutionException("The dispatcher has been shut down.");
+			}
+
+			long current = claimed.get();
+			long next = current + 1;
+			long wrapPoint = next - deliveries.length;
+			if (wrapPoint > gatingSequence) {
+				long gating = getMinimumConsumerSequence();
+				gatingSequence = gating;
+				if (wrapPoint > gating) {
+					// buffer is full
+					LockSupport.parkNanos(1);
+					continue;
+				}
+			}
+
+			if (claimed.compareAndSet(current, next)) {
+				return next;
+			}
+		}
+	}
+
+	private long getMinimumConsumerSequence() {
+		long minimum = Long.MAX_VALUE;
+		for (EventConsumer consumer : consumers) {
+			minimum = Math.min(minimum, consumer.sequence.get());
+		}
+		return minimum;
+	}
+
+	/**
+	 * Gets the highest sequence that has been published without gaps
+	 */
+	private long getHighestPublished(long from) {
+		long highest = claimed.get();
+		for (long sequence = from; sequence <= highest; sequence++) {
+			if (published.get((int) sequence & mask) != sequence) {
+				return sequence - 1;
+			}
+		}
+		return highest;
+	}
+
+	/**
+	 * Consumer Thread
+	 */
+	private class EventConsumer implements Runnable {
+
+		private final int id;
+
+		/**
+		 * Highest processed sequence
+		 */
+		private final AtomicLong sequence = new AtomicLong(-1);
+
+		private EventConsumer(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public void run() {
+			long next = 0;
+			int idle = 0;
+			while (true) {
+				long available = getHighestPublished(next);
+				if (available < next) {
+					if (!running && claimed.get() < next) {
+						return;
+					}
+					idle = waitFor(next, idle);
+					continue;
+				}
+				idle = 0;
+
+				for (long current = next; current <= available; current++) {
+					int index = (int) current & mask;
+					if (isOwner(current, keys[index])) {
+						Runnable delivery = deliveries[index];
+						deliveries[index] = null;
+						try {
+							delivery.run();
+						} catch (Exception ex) {
+							log.error("Unhandled exception caught delivering event: {}", ex.getMessage(), ex);
+						}
+					}
+				}
+
+				// release the slots to the producers
+				sequence.lazySet(available);
+				next = available + 1;
+			}
+		}
+
+		private boolean isOwner(long sequence, Object key) {
+			if (consumers.length == 1) {
+				return true;
+			}
+			long hash = (key == null) ? sequence : (key.hashCode() & Integer.MAX_VALUE);
+			return hash % consumers.length == id;
+		}
+
+		private int waitFor(long next, int idle) {
+			switch (waitStrategy) {
+				case BUSY_SPIN:
+					return idle;
+				case YIELDING:
+					if (idle >= SPIN_TRIES) {
+						Thread.yield();
+					}
+					return idle + 1;
+				case SLEEPING:
+					if (idle >= SPIN_TRIES * 2) {
+						LockSupport.parkNanos(100_000);
+					} else if (idle >= SPIN_TRIES) {
+						Thread.yield();
+					}
+					return idle + 1;
+				case BLOCKING:
+				default:
+					lock.lock();
+					blockedConsumers.incrementAndGet();
+					try {
+						// check again, a producer might have published before we were registered
+						if (running && getHighestPublished(next) < next) {
+							eventPublished.await(10, TimeUnit.MILLISECONDS);
+						}
+					} catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					} finally {
+						blockedConsumers.decrementAndGet();
+						lock.unlock();
+					}
+					return idle;
+			}
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package me.philippheuer.twitch4j.events.dispatch;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import me.philippheuer.twitch4j.events.Event;
+
+/**
+ * Delivers an event to every listener on its own virtual thread, so blocking listeners neither occupy platform threads
+ * nor delay the other listeners of the event.
+ * <p>
+ * Virtual threads are only available on newer JVMs, the executor is therefore resolved using reflection.
+ * Use {@link #isSupported()} to check if the running JVM supports them.
+ */
+@Slf4j
+public class VirtualThreadDispatchEngine implements DispatchEngine {
+
+	/**
+	 * Executors.newVirtualThreadPerTaskExecutor, null if not supported
+	 */
+	private static final Method EXECUTOR_FACTORY = findExecutorFactory();
+
+	private final ExecutorService executor;
+
+	/**
+	 * Constructor
+	 *
+	 * @throws UnsupportedOperationException if the JVM doesn't support virtual threads
+	 */
+	public VirtualThreadDispatchEngine() {
+		if (EXECUTOR_FACTORY == null) {
+			throw new UnsupportedOperationException("Virtual threads are not supported by this JVM.");
+		}
+
+		try {
+			this.executor = (ExecutorService) EXECUTOR_FACTORY.invoke(null);
+		} catch (ReflectiveOperationException ex) {
+			throw new UnsupportedOperationException("Failed to create the virtual thread executor.", ex);
+		}
+	}
+
+	/**
+	 * Checks if the running JVM supports virtual threads
+	 *
+	 * @return true, if supported
+	 */
+	public static boolean isSupported() {
+		return EXECUTOR_FACTORY != null;
+	}
+
+	@Override
+	public void execute(Event event, Runnable delivery) {
+		executor.execute(delivery);
+	}
+
+	@Override
+	public boolean isPerListener() {
+		return true;
+	}
+
+	@Override
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	private static Method findExecutorFactory() {
+		try {
+			return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+		} catch (NoSuchMethodException ex) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * The classes in this package resolve and invoke the listeners of the event dispatcher.
+ */
+package me.philippheuer.twitch4j.events.dispatch;
@@ -1,16 +1,13 @@
 package me.philippheuer.twitch4j.events.event;
 
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import me.philippheuer.twitch4j.auth.model.OAuthCredential;
 import me.philippheuer.twitch4j.events.Event;
 import me.philippheuer.twitch4j.events.event.irc.ChannelStateEvent;
 import me.philippheuer.twitch4j.model.Channel;
-import me.philippheuer.twitch4j.model.User;
 import org.springframework.util.Assert;
 
 /**
@@ -40,13 +37,8 @@ public class AbstractChannelEvent extends Event {
 		this.channel = channel;
 	}
 
-	private Optional<User> getBot() {
-		Optional<OAuthCredential> credentials = getClient().getCredentialManager().getTwitchCredentialsForIRC();
-		return credentials.map(getClient().getUserEndpoint()::getUser);
-	}
-
 	private boolean isBotModerator() {
-		return getBot().map(getClient().getMessageInterface().getTwitchChat().getChannelCache().get(channel.getName()).getModerators()::contains).get();
+		return getClient().getMessageInterface().getTwitchChat().isModerator(channel.getName());
 	}
 
 	private boolean isBotChannelEditor() {
@@ -190,4 +182,19 @@ public class AbstractChannelEvent extends Event {
 	public void startComercial(long time) {
 		if (isBotChannelEditor()) sendMessage(String.format("/commercial%s", (time > 0L) ? " " + time : "" ));
 	}
+
+	/**
+	 * Events of the same channel are delivered in order.
+	 *
+	 * @return The channel name.
+	 */
+	@Override
+	public Object getDispatchKey() {
+		return getSourceChannel();
+	}
+
+	@Override
+	public String getSourceChannel() {
+		return (channel != null) ? channel.getName() : null;
+	}
 }
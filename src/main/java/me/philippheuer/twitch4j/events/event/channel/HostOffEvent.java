@@ -32,4 +32,13 @@ public class HostOffEvent extends Event {
 		this.channel = channel;
 	}
 
+	@Override
+	public Object getDispatchKey() {
+		return getSourceChannel();
+	}
+
+	@Override
+	public String getSourceChannel() {
+		return (channel != null) ? channel.getName() : null;
+	}
 }
@@ -1,8 +1,10 @@
 package me.philippheuer.twitch4j.events.event.irc;
 
+import java.util.Arrays;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Value;
+import me.philippheuer.twitch4j.enums.EventPriority;
 import me.philippheuer.twitch4j.events.event.AbstractChannelEvent;
 import me.philippheuer.twitch4j.model.Channel;
 import me.philippheuer.twitch4j.model.User;
@@ -41,4 +43,24 @@ public class ChannelModEvent extends AbstractChannelEvent {
 		this.user = user;
 		this.isMod = isMod;
 	}
+
+	/**
+	 * The latest mod status of a user supersedes the previous status.
+	 *
+	 * @return The channel and user name.
+	 */
+	@Override
+	public Object getCoalescingKey() {
+		return Arrays.asList(ChannelModEvent.class, getSourceChannel(), (user != null) ? user.getName() : null);
+	}
+
+	/**
+	 * Mod status changes affect the moderation handlers.
+	 *
+	 * @return {@link EventPriority#MODERATION}
+	 */
+	@Override
+	public EventPriority getPriority() {
+		return EventPriority.MODERATION;
+	}
 }
@@ -3,6 +3,7 @@ package me.philippheuer.twitch4j.events.event.irc;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Value;
+import me.philippheuer.twitch4j.enums.EventPriority;
 import me.philippheuer.twitch4j.events.event.AbstractChannelEvent;
 import me.philippheuer.twitch4j.model.Channel;
 
@@ -19,4 +20,9 @@ public class ClearChatEvent extends AbstractChannelEvent {
 	public ClearChatEvent(Channel channel) {
 		super(channel);
 	}
+
+	@Override
+	public EventPriority getPriority() {
+		return EventPriority.MODERATION;
+	}
 }
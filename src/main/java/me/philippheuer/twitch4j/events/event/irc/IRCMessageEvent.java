@@ -1,90 +1,129 @@
 package me.philippheuer.twitch4j.events.event.irc;
 
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import lombok.AccessLevel;
-import lombok.Data;
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
-import lombok.Setter;
+import lombok.ToString;
+import me.philippheuer.twitch4j.enums.EventPriority;
 import me.philippheuer.twitch4j.events.Event;
 import me.philippheuer.twitch4j.message.commands.CommandPermission;
+import me.philippheuer.twitch4j.message.irc.IRCParser;
 import org.apache.commons.lang3.StringUtils;
 
 /**
  * This event gets called when we receive a raw irc message.
+ * <p>
+ * The message is scanned a single time when the event is created, only the offsets
+ * of the different parts are kept. Tags, badges, the message body and the permissions
+ * are built on first access.
  *
  * @author Damian Staszewski [https://github.com/stachu540]
  * @version %I%, %G%
  * @since 1.0
  */
-@Data
-@Getter
-@Setter(AccessLevel.PRIVATE)
-@EqualsAndHashCode(callSuper = false)
+@ToString(of = "rawMessage")
+@EqualsAndHashCode(callSuper = false, of = "rawMessage")
 public class IRCMessageEvent extends Event {
 
 	/**
-	 * Tags
+	 * Command Type of unparsable messages
 	 */
-	private Map<String, String> tags = new HashMap<>();
+	private static final String UNKNOWN = "UNKNOWN";
 
 	/**
-	 * Badges
+	 * Raw frame the message is part of
 	 */
-	private Map<String, String> badges = new HashMap<>();
+	private final String frame;
 
 	/**
-	 * Client
+	 * Offsets into the raw frame, -1 if the part is not present
+	 */
+	private final int start;
+	private final int end;
+	private int tagsStart = -1;
+	private int tagsEnd = -1;
+	private int prefixStart = -1;
+	private int prefixEnd = -1;
+	private int channelStart = -1;
+	private int channelEnd = -1;
+	private int payloadStart = -1;
+
+	/*
+	 * Lazily computed values. The values are immutable once built, so concurrent
+	 * readers at worst build them twice.
 	 */
-	private Optional<String> clientName = Optional.empty();
+
+	/**
+	 * RAW Message
+	 */
+	private String rawMessage;
 
 	/**
 	 * Message Type
 	 */
-	private String commandType = "UNKNOWN";
+	private String commandType = UNKNOWN;
+
+	/**
+	 * Tags
+	 */
+	private Map<String, String> tags;
+
+	/**
+	 * Badges
+	 */
+	private Map<String, String> badges;
+
+	/**
+	 * Client
+	 */
+	private Optional<String> clientName;
 
 	/**
 	 * Channel
 	 */
-	private Optional<String> channelName = Optional.empty();
+	private Optional<String> channelName;
 
 	/**
 	 * Message
 	 */
-	private Optional<String> message = Optional.empty();
+	private Optional<String> message;
 
 	/**
 	 * IRC Command Payload
 	 */
-	private Optional<String> payload = Optional.empty();
+	private Optional<String> payload;
 
 	/**
 	 * Client Permissions
 	 */
-	private final Set<CommandPermission> clientPermissions = new HashSet<CommandPermission>();
+	private volatile Set<CommandPermission> clientPermissions;
 
 	/**
-	 * RAW Message
+	 * Event Constructor
+	 *
+	 * @param rawMessage The raw message.
 	 */
-	private final String rawMessage;
+	public IRCMessageEvent(String rawMessage) {
+		this(rawMessage, 0, rawMessage.length());
+	}
 
 	/**
 	 * Event Constructor
 	 *
-	 * @param rawMessage      The raw message.
+	 * @param frame The raw frame containing the message.
+	 * @param start Index of the first character of the message.
+	 * @param end   Index after the last character of the message.
 	 */
-	public IRCMessageEvent(String rawMessage) {
-		this.rawMessage = rawMessage;
+	public IRCMessageEvent(String frame, int start, int end) {
+		this.frame = frame;
+		this.start = start;
+		this.end = end;
 
-		this.parseRawMessage();
-		this.parsePermissions();
+		this.scan();
 	}
 
 	/**
@@ -92,50 +131,223 @@ public class IRCMessageEvent extends Event {
 	 * @return Is the Event valid?
 	 */
 	public Boolean isValid() {
-		return !getCommandType().equals("UNKNOWN");
+		return !getCommandType().equals(UNKNOWN);
+	}
+
+	/**
+	 * Single pass scanner, which records the offsets of all parts of the message.
+	 * <p>
+	 * Format: <code>[@tags ][:prefix ]COMMAND[ #channel][ payload]</code>
+	 */
+	private void scan() {
+		int pos = start;
+
+		// Tags
+		if (pos < end && frame.charAt(pos) == '@') {
+			int space = IRCParser.indexOf(frame, ' ', pos, end);
+			if (space < 0) return;
+			tagsStart = pos + 1;
+			tagsEnd = space;
+			pos = skipSpaces(space);
+		}
+
+		// Prefix
+		if (pos < end && frame.charAt(pos) == ':') {
+			int space = IRCParser.indexOf(frame, ' ', pos, end);
+			if (space < 0) return;
+			prefixStart = pos + 1;
+			prefixEnd = space;
+			pos = skipSpaces(space);
+		}
+
+		// Command
+		int commandStart = pos;
+		while (pos < end && frame.charAt(pos) != ' ') {
+			char c = frame.charAt(pos);
+			if (!((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) return;
+			pos++;
+		}
+		if (pos == commandStart) return;
+		int commandEnd = pos;
+		pos = skipSpaces(pos);
+
+		// Channel (or the whisper target for messages sent by users)
+		if (pos < end) {
+			char c = frame.charAt(pos);
+			boolean isChannel = c == '#';
+			if (isChannel || (c != ':' && isUserPrefix())) {
+				int space = IRCParser.indexOf(frame, ' ', pos, end);
+				channelStart = isChannel ? pos + 1 : pos;
+				channelEnd = space < 0 ? end : space;
+				pos = space < 0 ? end : skipSpaces(space);
+			}
+		}
+
+		// Payload
+		if (pos < end) {
+			payloadStart = pos;
+		}
+
+		commandType = frame.substring(commandStart, commandEnd);
+	}
+
+	private int skipSpaces(int pos) {
+		while (pos < end && frame.charAt(pos) == ' ') pos++;
+		return pos;
+	}
+
+	private boolean isUserPrefix() {
+		return prefixStart >= 0 && IRCParser.indexOf(frame, '!', prefixStart, prefixEnd) >= 0;
+	}
+
+	/**
+	 * Gets the raw message
+	 *
+	 * @return The raw irc line.
+	 */
+	public String getRawMessage() {
+		if (rawMessage == null) {
+			rawMessage = frame.substring(start, end);
+		}
+		return rawMessage;
+	}
+
+	/**
+	 * Gets the irc command
+	 *
+	 * @return The command, or UNKNOWN if the message could not be parsed.
+	 */
+	public String getCommandType() {
+		return commandType;
 	}
 
 	/**
-	 * Parse RAW Message
+	 * Gets all tags, the map is only built on the first call.
+	 * Prefer {@link #getTagValue(String)} to read single tags.
+	 *
+	 * @return A read-only key-value map of the tags.
 	 */
-	@SuppressWarnings("unchecked")
-	private void parseRawMessage() {
-		// Parse Message
-		Pattern pattern = Pattern.compile("^(?:@(?<tags>.+?) )?(?<clientName>.+?)(?: (?<command>[A-Z0-9]+) )(?:#(?<channel>.*?) ?)?(?<payload>[:\\-\\+](?<message>.+))?$");
-		Matcher matcher = pattern.matcher(rawMessage);
+	public Map<String, String> getTags() {
+		if (tags == null) {
+			tags = (tagsStart < 0) ? Collections.emptyMap() : parseSection(frame, tagsStart, tagsEnd, ';', '=');
+		}
+		return tags;
+	}
 
-		if(matcher.matches()) {
-			// Parse Tags
-			setTags(parseTags(matcher.group("tags")));
-			if(getTags().containsKey("badges")) {
-				setBadges(parseBadges(getTags().get("badges")));
+	/**
+	 * Gets all badges, the map is only built on the first call.
+	 *
+	 * @return A read-only key-value map of the badges.
+	 */
+	public Map<String, String> getBadges() {
+		if (badges == null) {
+			int valueStart = indexOfTag("badges");
+			if (valueStart < 0) {
+				badges = Collections.emptyMap();
+			} else {
+				badges = parseBadgeList(frame, valueStart, IRCParser.valueEnd(frame, valueStart, tagsEnd, ';'));
+			}
+		}
+		return badges;
+	}
+
+	/**
+	 * Gets the client name
+	 *
+	 * @return Client name, or empty for server messages.
+	 */
+	public Optional<String> getClientName() {
+		if (clientName == null) {
+			if (prefixStart < 0) {
+				clientName = Optional.empty();
+			} else {
+				int bang = IRCParser.indexOf(frame, '!', prefixStart, prefixEnd);
+				if (bang >= 0) {
+					clientName = Optional.of(frame.substring(prefixStart, bang));
+				} else if (frame.startsWith("tmi.twitch.tv", prefixStart) || frame.startsWith("jtv", prefixStart)) {
+					clientName = Optional.empty();
+				} else {
+					clientName = Optional.of(frame.substring(prefixStart, prefixEnd));
+				}
 			}
+		}
+		return clientName;
+	}
 
-			setClientName(parseClientName(matcher.group("clientName")));
-			setCommandType(matcher.group("command"));
-			setChannelName(Optional.ofNullable(matcher.group("channel")));
-			setMessage(Optional.ofNullable(matcher.group("message")));
-			setPayload(Optional.ofNullable(matcher.group("payload")));
-			return;
+	/**
+	 * Gets the channel name
+	 *
+	 * @return The channel name, without the leading #.
+	 */
+	public Optional<String> getChannelName() {
+		if (channelName == null) {
+			channelName = (channelStart < 0) ? Optional.empty() : Optional.of(frame.substring(channelStart, channelEnd));
 		}
+		return channelName;
+	}
 
-		// Parse Message - Whisper
-		Pattern patternPM = Pattern.compile("^(?:@(?<tags>.+?) )?:(?<clientName>.+?)!.+?(?: (?<command>[A-Z0-9]+) )(?:(?<channel>.*?) ?)??(?<payload>[:\\-\\+](?<message>.+))$");
-		Matcher matcherPM = patternPM.matcher(rawMessage);
+	/**
+	 * Gets the irc command payload
+	 *
+	 * @return The payload, including the leading : / + / - marker.
+	 */
+	public Optional<String> getPayload() {
+		if (payload == null) {
+			payload = (payloadStart < 0) ? Optional.empty() : Optional.of(frame.substring(payloadStart, end));
+		}
+		return payload;
+	}
 
-		if(matcherPM.matches()) {
-			// Parse Tags
-			setTags(parseTags(matcherPM.group("tags")));
-			if(getTags().containsKey("badges")) {
-				setBadges(parseBadges(getTags().get("badges")));
+	/**
+	 * Gets the message
+	 *
+	 * @return The message body (payload without the marker).
+	 */
+	public Optional<String> getMessage() {
+		if (message == null) {
+			if (payloadStart < 0) {
+				message = Optional.empty();
+			} else {
+				char marker = frame.charAt(payloadStart);
+				int messageStart = (marker == ':' || marker == '+' || marker == '-') ? payloadStart + 1 : payloadStart;
+				message = (messageStart < end) ? Optional.of(frame.substring(messageStart, end)) : Optional.empty();
 			}
+		}
+		return message;
+	}
+
+	/**
+	 * Gets the permissions of the client, derived from the badges and tags
+	 *
+	 * @return The client permissions.
+	 */
+	public Set<CommandPermission> getClientPermissions() {
+		if (clientPermissions == null) {
+			parsePermissions();
+		}
+		return clientPermissions;
+	}
 
-			setClientName(parseClientName(matcherPM.group("clientName")));
-			setCommandType(matcherPM.group("command"));
-			setChannelName(Optional.ofNullable(matcherPM.group("channel")));
-			setMessage(Optional.ofNullable(matcherPM.group("message")));
-			setPayload(Optional.ofNullable(matcherPM.group("payload")));
+	/**
+	 * Parse a key/value section of a raw message or list
+	 */
+	private static Map<String, String> parseSection(String source, int from, int to, char separator, char assign) {
+		Map<String, String> map = new HashMap<>();
+		int pos = from;
+		while (pos < to) {
+			int pairEnd = IRCParser.indexOf(source, separator, pos, to);
+			if (pairEnd < 0) pairEnd = to;
+
+			int assignIndex = IRCParser.indexOf(source, assign, pos, pairEnd);
+			if (assignIndex < 0) {
+				map.put(source.substring(pos, pairEnd), null);
+			} else {
+				map.put(source.substring(pos, assignIndex), (assignIndex + 1 < pairEnd) ? source.substring(assignIndex + 1, pairEnd) : null);
+			}
+			pos = pairEnd + 1;
 		}
+
+		return Collections.unmodifiableMap(map); // formatting to Read-Only Map
 	}
 
 	/**
@@ -145,17 +357,9 @@ public class IRCMessageEvent extends Event {
 	 * @return A key-value map of the tags.
 	 */
 	public Map parseTags(String raw) {
-		Map<String, String> map = new HashMap<>();
-		if(StringUtils.isBlank(raw)) return map;
-
-		for (String tag: raw.split(";")) {
-			String[] val = tag.split("=");
-			final String key = val[0];
-			String value = (val.length > 1) ? val[1] : null;
-			map.put(key, value);
-		}
+		if (StringUtils.isBlank(raw)) return new HashMap<>();
 
-		return Collections.unmodifiableMap(map); // formatting to Read-Only Map
+		return parseSection(raw, 0, raw.length(), ';', '=');
 	}
 
 	/**
@@ -165,20 +369,21 @@ public class IRCMessageEvent extends Event {
 	 * @return A key-value map of the tags.
 	 */
 	public Map parseBadges(String raw) {
-		Map<String, String> map = new HashMap<>();
-		if(StringUtils.isBlank(raw)) return map;
+		if (StringUtils.isBlank(raw)) return new HashMap<>();
 
-		// Fix Whitespaces
-		raw = raw.replace("\\s", " ");
+		return parseBadgeList(raw, 0, raw.length());
+	}
 
-		for (String tag: raw.split(",")) {
-			String[] val = tag.split("/");
-			final String key = val[0];
-			String value = (val.length > 1) ? val[1] : null;
-			map.put(key, value);
+	/**
+	 * Parse a badge list of a raw message or list, escaped whitespaces are replaced
+	 */
+	private static Map<String, String> parseBadgeList(String source, int from, int to) {
+		if (IRCParser.indexOf(source, '\\', from, to) >= 0) {
+			// Fix Whitespaces
+			String badges = source.substring(from, to).replace("\\s", " ");
+			return parseSection(badges, 0, badges.length(), ',', '/');
 		}
-
-		return Collections.unmodifiableMap(map); // formatting to Read-Only Map
+		return parseSection(source, from, to, ',', '/');
 	}
 
 	/**
@@ -192,10 +397,9 @@ public class IRCMessageEvent extends Event {
 			return Optional.empty();
 		}
 
-		Pattern pattern = Pattern.compile("^:(.*?)!(.*?)@(.*?).tmi.twitch.tv$");
-		Matcher matcher = pattern.matcher(raw);
-		if(matcher.matches()) {
-			return Optional.ofNullable(matcher.group(1));
+		int bang = raw.indexOf('!');
+		if(raw.startsWith(":") && bang > 0 && raw.endsWith(".tmi.twitch.tv")) {
+			return Optional.of(raw.substring(1, bang));
 		}
 
 		return Optional.ofNullable(raw);
@@ -205,75 +409,135 @@ public class IRCMessageEvent extends Event {
 	 * Gets a users permissions based on the raw message
 	 */
 	public void parsePermissions() {
+		Set<CommandPermission> permissions = EnumSet.noneOf(CommandPermission.class);
+
 		// Check for Permissions
-		if (getTags().containsKey("badges")) {
-			Boolean isChannelOwner = getTags().containsKey("user-id") && getTags().containsKey("room-id") && getTags().get("user-id").equals(getTags().get("room-id"));
+		if (indexOfTag("badges") >= 0) {
+			String userId = getRawTagValue("user-id");
+			boolean isChannelOwner = userId != null && userId.equals(getRawTagValue("room-id"));
 
 			// - Broadcaster
 			if (getBadges().containsKey("broadcaster") || isChannelOwner) {
-				getClientPermissions().add(CommandPermission.BROADCASTER);
-				getClientPermissions().add(CommandPermission.MODERATOR);
+				permissions.add(CommandPermission.BROADCASTER);
+				permissions.add(CommandPermission.MODERATOR);
 			}
 			// Twitch Prime
 			if (getBadges().containsKey("premium")) {
-				getClientPermissions().add(CommandPermission.PRIME_TURBO);
+				permissions.add(CommandPermission.PRIME_TURBO);
 			}
 			// Partner
 			if (getBadges().containsKey("partner")) {
-				getClientPermissions().add(CommandPermission.PARTNER);
+				permissions.add(CommandPermission.PARTNER);
 			}
 		}
 		// Moderator
-		if (getTags().containsKey("mod") && getTags().get("mod").equals("1")) {
-			getClientPermissions().add(CommandPermission.MODERATOR);
+		if ("1".equals(getRawTagValue("mod"))) {
+			permissions.add(CommandPermission.MODERATOR);
 		}
 		// Twitch Turbo
-		if (getTags().containsKey("turbo") && getTags().get("turbo").equals("1")) {
-			getClientPermissions().add(CommandPermission.PRIME_TURBO);
+		if ("1".equals(getRawTagValue("turbo"))) {
+			permissions.add(CommandPermission.PRIME_TURBO);
 		}
 		// Subscriber
-		if (getTags().containsKey("subscriber") && getTags().get("subscriber").equals("1")) {
-			getClientPermissions().add(CommandPermission.SUBSCRIBER);
+		if ("1".equals(getRawTagValue("subscriber"))) {
+			permissions.add(CommandPermission.SUBSCRIBER);
 		}
 		// Everyone
-		getClientPermissions().add(CommandPermission.EVERYONE);
+		permissions.add(CommandPermission.EVERYONE);
+
+		clientPermissions = permissions;
 	}
 
 	/**
 	 * Gets the Channel Id (from Tags)
 	 */
 	public Long getChannelId() {
-		if(getTags().containsKey("room-id")) {
-			return Long.parseLong(getTags().get("room-id"));
-		}
-
-		return null;
+		String value = getRawTagValue("room-id");
+		return (value != null) ? Long.parseLong(value) : null;
 	}
 
 	/**
 	 * Gets the User Id (from Tags)
 	 */
 	public Long getUserId() {
-		if(getTags().containsKey("user-id")) {
-			return Long.parseLong(getTags().get("user-id"));
-		}
+		String value = getRawTagValue("user-id");
+		return (value != null) ? Long.parseLong(value) : null;
+	}
 
-		return null;
+	/**
+	 * Checks if a tag is present, without building the tag map.
+	 *
+	 * @param tagName The tag name.
+	 * @return true, if the message contains the tag (even if it has no value).
+	 */
+	public boolean hasTag(String tagName) {
+		return indexOfTag(tagName) >= 0;
 	}
 
 	/**
 	 * Gets a optional tag from the irc message
 	 */
 	public Optional<String> getTagValue(String tagName) {
-		if(getTags().containsKey(tagName)) {
-			String value = getTags().get(tagName);
-			if(StringUtils.isBlank(value)) return Optional.empty();
+		String value = getRawTagValue(tagName);
+		if(StringUtils.isBlank(value)) return Optional.empty();
 
-			value = value.replaceAll("\\\\s", " ");
-			return Optional.ofNullable(value);
-		}
+		return Optional.ofNullable(IRCParser.unescapeTagValue(value));
+	}
+
+	/**
+	 * Gets the escaped value of a tag, without building the tag map.
+	 *
+	 * @param tagName The tag name.
+	 * @return The raw value, or null if the tag is missing or empty.
+	 */
+	private String getRawTagValue(String tagName) {
+		int valueStart = indexOfTag(tagName);
+		if (valueStart < 0) return null;
+
+		int valueEnd = IRCParser.valueEnd(frame, valueStart, tagsEnd, ';');
+		return (valueEnd > valueStart) ? frame.substring(valueStart, valueEnd) : null;
+	}
+
+	private int indexOfTag(String tagName) {
+		if (tagsStart < 0) return -1;
 
-		return Optional.empty();
+		return IRCParser.indexOfValue(frame, tagsStart, tagsEnd, tagName, ';', '=');
 	}
 
+	/**
+	 * Messages of the same channel, or whispers of the same user, are delivered in order.
+	 *
+	 * @return The channel name, or the user name for whispers.
+	 */
+	@Override
+	public Object getDispatchKey() {
+		return getCommandType().equals("WHISPER") ? getClientName().orElse(null) : getChannelName().orElse(null);
+	}
+
+	@Override
+	public String getSourceChannel() {
+		return getCommandType().equals("WHISPER") ? null : getChannelName().orElse(null);
+	}
+
+	/**
+	 * Moderation messages are decoded before queued chat messages, reconnects and failed logins before everything else.
+	 *
+	 * @return The priority class of the irc command.
+	 */
+	@Override
+	public EventPriority getPriority() {
+		switch (getCommandType()) {
+			case "CLEARCHAT":
+			case "CLEARMSG":
+			case "MODE":
+				return EventPriority.MODERATION;
+			case "RECONNECT":
+				return EventPriority.SYSTEM;
+			case "NOTICE":
+				// server notices without channel, like failed logins
+				return getChannelName().isPresent() ? EventPriority.CHAT : EventPriority.SYSTEM;
+			default:
+				return EventPriority.CHAT;
+		}
+	}
 }
@@ -51,4 +51,14 @@ public class PrivateMessageEvent extends Event {
 	public void sendMessage(String message) {
 		getClient().getMessageInterface().sendPrivateMessage(user.getName(), message);
 	}
+
+	/**
+	 * Whispers of the same user are delivered in order.
+	 *
+	 * @return The user name.
+	 */
+	@Override
+	public Object getDispatchKey() {
+		return (user != null) ? user.getName() : null;
+	}
 }
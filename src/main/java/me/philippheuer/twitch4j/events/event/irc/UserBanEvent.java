@@ -3,6 +3,7 @@ package me.philippheuer.twitch4j.events.event.irc;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Value;
+import me.philippheuer.twitch4j.enums.EventPriority;
 import me.philippheuer.twitch4j.events.event.AbstractChannelEvent;
 import me.philippheuer.twitch4j.model.Channel;
 import me.philippheuer.twitch4j.model.User;
@@ -41,4 +42,9 @@ public class UserBanEvent extends AbstractChannelEvent {
 		this.user = user;
 		this.reason = reason;
 	}
+
+	@Override
+	public EventPriority getPriority() {
+		return EventPriority.MODERATION;
+	}
 }
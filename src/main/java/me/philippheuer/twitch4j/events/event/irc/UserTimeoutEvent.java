@@ -3,6 +3,7 @@ package me.philippheuer.twitch4j.events.event.irc;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Value;
+import me.philippheuer.twitch4j.enums.EventPriority;
 import me.philippheuer.twitch4j.events.event.AbstractChannelEvent;
 import me.philippheuer.twitch4j.model.Channel;
 import me.philippheuer.twitch4j.model.User;
@@ -48,4 +49,9 @@ public class UserTimeoutEvent extends AbstractChannelEvent {
 		this.duration = duration;
 		this.reason = reason;
 	}
+
+	@Override
+	public EventPriority getPriority() {
+		return EventPriority.MODERATION;
+	}
 }
@@ -1,5 +1,6 @@
 package me.philippheuer.twitch4j.events.event.irc.roomstates;
 
+import java.util.Arrays;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -17,4 +18,14 @@ public abstract class ChannelStatesEvent extends AbstractChannelEvent{
 		super(channel);
 		this.active = active;
 	}
+
+	/**
+	 * The latest state of each type and channel supersedes the previous states.
+	 *
+	 * @return The event type and channel name.
+	 */
+	@Override
+	public Object getCoalescingKey() {
+		return Arrays.asList(getClass(), getSourceChannel());
+	}
 }
@@ -4,6 +4,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Value;
 import me.philippheuer.twitch4j.auth.model.OAuthCredential;
+import me.philippheuer.twitch4j.enums.EventPriority;
 import me.philippheuer.twitch4j.events.Event;
 
 /**
@@ -32,4 +33,13 @@ public class AuthTokenExpiredEvent extends Event {
 		this.credential = credential;
 	}
 
+	/**
+	 * The token has to be refreshed before other requests fail.
+	 *
+	 * @return {@link EventPriority#SYSTEM}
+	 */
+	@Override
+	public EventPriority getPriority() {
+		return EventPriority.SYSTEM;
+	}
 }
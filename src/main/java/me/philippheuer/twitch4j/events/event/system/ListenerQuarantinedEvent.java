@@ -0,0 +1,48 @@
+package me.philippheuer.twitch4j.events.event.system;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Value;
+import me.philippheuer.twitch4j.enums.EventPriority;
+import me.philippheuer.twitch4j.events.Event;
+import me.philippheuer.twitch4j.events.dispatch.ListenerHandle;
+
+/**
+ * This event gets called when a listener exceeded its deadlines and has been moved to the quarantine executor.
+ */
+@Value
+@Getter
+@EqualsAndHashCode(callSuper = false)
+public class ListenerQuarantinedEvent extends Event {
+
+	/**
+	 * The quarantined listener
+	 */
+	private ListenerHandle listener;
+
+	/**
+	 * Reason
+	 */
+	private String reason;
+
+	/**
+	 * Event Constructor
+	 *
+	 * @param listener The quarantined listener.
+	 * @param reason   Reason.
+	 */
+	public ListenerQuarantinedEvent(ListenerHandle listener, String reason) {
+		this.listener = listener;
+		this.reason = reason;
+	}
+
+	/**
+	 * Reported even if the dispatcher is busy.
+	 *
+	 * @return {@link EventPriority#SYSTEM}
+	 */
+	@Override
+	public EventPriority getPriority() {
+		return EventPriority.SYSTEM;
+	}
+}
@@ -0,0 +1,72 @@
+package me.philippheuer.twitch4j.events.flow;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.Getter;
+import me.philippheuer.twitch4j.enums.BackpressureStrategy;
+import me.philippheuer.twitch4j.events.Event;
+import me.philippheuer.twitch4j.events.EventDispatcher;
+
+/**
+ * Publishes the events of a type to subscribers, each subscriber has a bounded buffer and receives only as many events as it requested.
+ *
+ * @param <T> The event type.
+ */
+@Getter
+public class EventPublisher<T extends Event> implements Flow.Publisher<T> {
+
+	/**
+	 * Delivers the buffered events to the subscribers
+	 */
+	static final ExecutorService DELIVERY_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+		thread.setName("Event Publisher Thread");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Event Dispatcher
+	 */
+	private final EventDispatcher dispatcher;
+
+	/**
+	 * Event Type
+	 */
+	private final Class<T> eventType;
+
+	/**
+	 * Maximum amount of buffered events per subscriber
+	 */
+	private final int bufferSize;
+
+	/**
+	 * Strategy used if the buffer of a subscriber is full
+	 */
+	private final BackpressureStrategy backpressureStrategy;
+
+	/**
+	 * Constructor
+	 *
+	 * @param dispatcher           Event Dispatcher.
+	 * @param eventType            Event Type.
+	 * @param bufferSize           Maximum amount of buffered events per subscriber.
+	 * @param backpressureStrategy Strategy used if the buffer of a subscriber is full.
+	 */
+	public EventPublisher(EventDispatcher dispatcher, Class<T> eventType, int bufferSize, BackpressureStrategy backpressureStrategy) {
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("Buffer size must be positive.");
+		}
+		this.dispatcher = dispatcher;
+		this.eventType = eventType;
+		this.bufferSize = bufferSize;
+		this.backpressureStrategy = backpressureStrategy;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super T> subscriber) {
+		EventSubscription<T> subscription = new EventSubscription<>(this, subscriber);
+		subscriber.onSubscribe(subscription);
+		subscription.start();
+	}
+}
@@ -0,0 +1,222 @@
+package me.philippheuer.twitch4j.events.flow;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import me.philippheuer.twitch4j.enums.SubscriberMode;
+import me.philippheuer.twitch4j.events.Event;
+import me.philippheuer.twitch4j.events.IListener;
+import me.philippheuer.twitch4j.events.dispatch.ListenerRegistration;
+
+/**
+ * The subscription of a single subscriber to an {@link EventPublisher}.
+ * <p>
+ * Events are buffered by an inline listener on the dispatching thread, and delivered to the subscriber
+ * on a separate thread as long as the subscriber has outstanding demand.
+ *
+ * @param <T> The event type.
+ */
+@Slf4j
+public class EventSubscription<T extends Event> implements Flow.Subscription {
+
+	private final EventPublisher<T> publisher;
+
+	private final Flow.Subscriber<? super T> subscriber;
+
+	/**
+	 * Buffered events
+	 */
+	private final Deque<T> buffer = new ArrayDeque<>();
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * Signalled when an event has been taken from the buffer, used by {@link me.philippheuer.twitch4j.enums.BackpressureStrategy#BLOCK}
+	 */
+	private final Condition notFull = lock.newCondition();
+
+	/**
+	 * Requested but not delivered events
+	 */
+	private final AtomicLong demand = new AtomicLong();
+
+	/**
+	 * Pending drain requests, only one thread delivers events at a time
+	 */
+	private final AtomicInteger pendingDrains = new AtomicInteger();
+
+	/**
+	 * Amount of dropped events
+	 */
+	private final AtomicLong dropped = new AtomicLong();
+
+	/**
+	 * Listener that buffers the events
+	 */
+	private final IListener<T> listener = this::offer;
+
+	/**
+	 * Registration of the listener
+	 */
+	private volatile ListenerRegistration registration;
+
+	private volatile boolean cancelled = false;
+
+	/**
+	 * Constructor
+	 *
+	 * @param publisher  The publisher.
+	 * @param subscriber The subscriber.
+	 */
+	EventSubscription(EventPublisher<T> publisher, Flow.Subscriber<? super T> subscriber) {
+		this.publisher = publisher;
+		this.subscriber = subscriber;
+	}
+
+	/**
+	 * Starts listening for events
+	 */
+	void start() {
+		if (!cancelled) {
+			// the listener blocks the publishing thread with BackpressureStrategy.BLOCK
+			registration = publisher.getDispatcher().registerListener(publisher.getEventType(), listener, SubscriberMode.INLINE).exemptFromQuarantine();
+			if (cancelled) {
+				registration.unregister();
+			}
+		}
+	}
+
+	@Override
+	public void request(long n) {
+		if (cancelled) {
+			return;
+		}
+		if (n <= 0) {
+			cancel();
+			subscriber.onError(new IllegalArgumentException("Requested amount must be positive, got " + n));
+			return;
+		}
+
+		// add without overflowing, Long.MAX_VALUE means unbounded
+		demand.getAndUpdate(current -> (current + n < 0) ? Long.MAX_VALUE : current + n);
+		scheduleDrain();
+	}
+
+	@Override
+	public void cancel() {
+		if (cancelled) {
+			return;
+		}
+		cancelled = true;
+		if (registration != null) {
+			registration.unregister();
+		}
+
+		lock.lock();
+		try {
+			buffer.clear();
+			notFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the amount of events that were dropped because the buffer was full
+	 *
+	 * @return Amount of dropped events.
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+
+	/**
+	 * Gets the amount of buffered events
+	 *
+	 * @return Amount of buffered events.
+	 */
+	public int getBufferedCount() {
+		lock.lock();
+		try {
+			return buffer.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Buffers an event, called on the dispatching thread
+	 */
+	private void offer(T event) {
+		lock.lock();
+		try {
+			while (!cancelled && buffer.size() >= publisher.getBufferSize()) {
+				switch (publisher.getBackpressureStrategy()) {
+					case DROP_OLDEST:
+						buffer.pollFirst();
+						dropped.incrementAndGet();
+						break;
+					case DROP_NEWEST:
+						dropped.incrementAndGet();
+						return;
+					case BLOCK:
+						notFull.awaitUninterruptibly();
+						break;
+				}
+			}
+			if (cancelled) {
+				return;
+			}
+			buffer.addLast(event);
+		} finally {
+			lock.unlock();
+		}
+		scheduleDrain();
+	}
+
+	private void scheduleDrain() {
+		if (pendingDrains.getAndIncrement() == 0) {
+			EventPublisher.DELIVERY_EXECUTOR.execute(this::drain);
+		}
+	}
+
+	/**
+	 * Delivers buffered events while there is demand
+	 */
+	private void drain() {
+		int missed = 1;
+		do {
+			while (!cancelled && demand.get() > 0) {
+				T event;
+				lock.lock();
+				try {
+					event = buffer.pollFirst();
+					if (event != null) {
+						notFull.signal();
+					}
+				} finally {
+					lock.unlock();
+				}
+				if (event == null) {
+					break;
+				}
+
+				if (demand.get() != Long.MAX_VALUE) {
+					demand.decrementAndGet();
+				}
+				try {
+					subscriber.onNext(event);
+				} catch (Exception ex) {
+					log.error("Subscriber of {} failed, cancelling the subscription: {}", publisher.getEventType().getSimpleName(), ex.getMessage(), ex);
+					cancel();
+					subscriber.onError(ex);
+				}
+			}
+			missed = pendingDrains.addAndGet(-missed);
+		} while (missed != 0);
+	}
+}
@@ -0,0 +1,81 @@
+package me.philippheuer.twitch4j.events.flow;
+
+/**
+ * Interfaces of demand-driven streams, modelled after {@code java.util.concurrent.Flow}.
+ * <p>
+ * The library targets Java 8, which doesn't provide the Flow interfaces. The methods and their contracts are identical,
+ * so adapters to Java 9 Flow or Reactive Streams only need to delegate each call.
+ */
+public final class Flow {
+
+	private Flow() {
+	}
+
+	/**
+	 * A producer of items, which are received by subscribers.
+	 *
+	 * @param <T> The item type.
+	 */
+	@FunctionalInterface
+	public interface Publisher<T> {
+
+		/**
+		 * Adds a subscriber, which is notified using {@link Subscriber#onSubscribe(Subscription)}.
+		 *
+		 * @param subscriber The subscriber.
+		 */
+		void subscribe(Subscriber<? super T> subscriber);
+	}
+
+	/**
+	 * A receiver of items.
+	 *
+	 * @param <T> The item type.
+	 */
+	public interface Subscriber<T> {
+
+		/**
+		 * Called before any other method of the subscription is called.
+		 *
+		 * @param subscription The subscription, used to request items.
+		 */
+		void onSubscribe(Subscription subscription);
+
+		/**
+		 * Called with the next item, never more often than requested.
+		 *
+		 * @param item The item.
+		 */
+		void onNext(T item);
+
+		/**
+		 * Called if the subscription failed, no other method is called afterwards.
+		 *
+		 * @param throwable The error.
+		 */
+		void onError(Throwable throwable);
+
+		/**
+		 * Called if no more items will be delivered, no other method is called afterwards.
+		 */
+		void onComplete();
+	}
+
+	/**
+	 * Links a publisher and a subscriber.
+	 */
+	public interface Subscription {
+
+		/**
+		 * Requests additional items.
+		 *
+		 * @param n The amount of items, must be positive.
+		 */
+		void request(long n);
+
+		/**
+		 * Stops the delivery of items.
+		 */
+		void cancel();
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * The classes in this package provide the events of the event dispatcher as reactive streams with backpressure.
+ */
+package me.philippheuer.twitch4j.events.flow;
@@ -0,0 +1,16 @@
+package me.philippheuer.twitch4j.index;
+
+/**
+ * An index of listeners, commands and modules, generated by the {@link me.philippheuer.twitch4j.index.processor.ComponentIndexProcessor}.
+ * <p>
+ * Implementations are loaded using the {@link java.util.ServiceLoader}.
+ */
+public interface ComponentIndex {
+
+	/**
+	 * Adds the indexed components to the registry
+	 *
+	 * @param registry The registry.
+	 */
+	void register(ComponentRegistry registry);
+}
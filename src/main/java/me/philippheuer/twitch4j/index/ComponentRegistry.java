@@ -0,0 +1,141 @@
+package me.philippheuer.twitch4j.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import me.philippheuer.twitch4j.modules.IModule;
+
+/**
+ * Components found by the generated {@link ComponentIndex} implementations.
+ * <p>
+ * Classes that are part of the index are registered without reflection, all other classes use the reflection based lookup.
+ */
+@Slf4j
+public final class ComponentRegistry {
+
+	private static volatile ComponentRegistry instance;
+
+	/**
+	 * Subscriber methods per listener class
+	 */
+	private final Map<Class<?>, List<IndexedSubscriber>> subscribers = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructors of commands and modules
+	 */
+	private final Map<Class<?>, Supplier<?>> factories = new ConcurrentHashMap<>();
+
+	/**
+	 * Module Classes
+	 */
+	private final List<Class<? extends IModule>> modules = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Gets the registry, loads the indexes on first use
+	 *
+	 * @return The registry.
+	 */
+	public static ComponentRegistry getInstance() {
+		if (instance == null) {
+			synchronized (ComponentRegistry.class) {
+				if (instance == null) {
+					instance = load();
+				}
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * Loads the indexes again, required after jars have been added to the class path
+	 *
+	 * @return The registry.
+	 */
+	public static synchronized ComponentRegistry reload() {
+		instance = load();
+		return instance;
+	}
+
+	private static ComponentRegistry load() {
+		ComponentRegistry registry = new ComponentRegistry();
+		try {
+			for (ComponentIndex index : ServiceLoader.load(ComponentIndex.class)) {
+				index.register(registry);
+				log.debug("Loaded component index {}", index.getClass().getName());
+			}
+		} catch (ServiceConfigurationError ex) {
+			log.warn("Failed to load a component index, using reflection instead: {}", ex.getMessage());
+		}
+		return registry;
+	}
+
+	/**
+	 * Adds a subscriber method
+	 *
+	 * @param subscriber The subscriber method.
+	 */
+	public void addSubscriber(IndexedSubscriber subscriber) {
+		subscribers.computeIfAbsent(subscriber.getListenerClass(), k -> new CopyOnWriteArrayList<>()).add(subscriber);
+	}
+
+	/**
+	 * Adds the constructor of a command or module
+	 *
+	 * @param <T>     The component type.
+	 * @param type    The component class.
+	 * @param factory The constructor.
+	 */
+	public <T> void addFactory(Class<T> type, Supplier<? extends T> factory) {
+		factories.put(type, factory);
+	}
+
+	/**
+	 * Adds a module
+	 *
+	 * @param <T>     The module type.
+	 * @param type    The module class.
+	 * @param factory The constructor.
+	 */
+	public <T extends IModule> void addModule(Class<T> type, Supplier<T> factory) {
+		modules.add(type);
+		addFactory(type, factory);
+	}
+
+	/**
+	 * Gets the subscriber methods of a listener class
+	 *
+	 * @param listenerClass The listener class.
+	 * @return The subscriber methods, or null if the class is not indexed.
+	 */
+	public List<IndexedSubscriber> getSubscribers(Class<?> listenerClass) {
+		return subscribers.get(listenerClass);
+	}
+
+	/**
+	 * Gets the constructor of a command or module
+	 *
+	 * @param <T>  The component type.
+	 * @param type The component class.
+	 * @return The constructor, or null if the class is not indexed.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Supplier<T> getFactory(Class<T> type) {
+		return (Supplier<T>) factories.get(type);
+	}
+
+	/**
+	 * Gets the indexed modules
+	 *
+	 * @return The module classes.
+	 */
+	public List<Class<? extends IModule>> getModules() {
+		return Collections.unmodifiableList(new ArrayList<>(modules));
+	}
+}
@@ -0,0 +1,70 @@
+package me.philippheuer.twitch4j.index;
+
+import java.util.function.BiConsumer;
+import lombok.Getter;
+import me.philippheuer.twitch4j.enums.EventPriority;
+import me.philippheuer.twitch4j.enums.SubscriberMode;
+import me.philippheuer.twitch4j.events.Event;
+
+/**
+ * A method annotated with {@link me.philippheuer.twitch4j.events.EventSubscriber}, with a generated invoker.
+ */
+@Getter
+public class IndexedSubscriber {
+
+	/**
+	 * Listener Class
+	 */
+	private final Class<?> listenerClass;
+
+	/**
+	 * Method Name
+	 */
+	private final String methodName;
+
+	/**
+	 * Event Type
+	 */
+	private final Class<? extends Event> eventType;
+
+	/**
+	 * Subscriber Mode
+	 */
+	private final SubscriberMode mode;
+
+	/**
+	 * Priority class, null to use the priority of the event
+	 */
+	private final EventPriority priority;
+
+	/**
+	 * Is the method static?
+	 */
+	private final boolean staticMethod;
+
+	/**
+	 * Invokes the method on the listener instance (null for static methods)
+	 */
+	private final BiConsumer<Object, Event> invoker;
+
+	/**
+	 * Constructor
+	 *
+	 * @param listenerClass Listener Class.
+	 * @param methodName    Method Name.
+	 * @param eventType     Event Type.
+	 * @param mode          Subscriber Mode.
+	 * @param priority      Priority class, or null.
+	 * @param staticMethod  Is the method static?
+	 * @param invoker       Invokes the method.
+	 */
+	public IndexedSubscriber(Class<?> listenerClass, String methodName, Class<? extends Event> eventType, SubscriberMode mode, EventPriority priority, boolean staticMethod, BiConsumer<Object, Event> invoker) {
+		this.listenerClass = listenerClass;
+		this.methodName = methodName;
+		this.eventType = eventType;
+		this.mode = mode;
+		this.priority = priority;
+		this.staticMethod = staticMethod;
+		this.invoker = invoker;
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * The classes in this package load the listener, command and module index generated at compile time.
+ */
+package me.philippheuer.twitch4j.index;
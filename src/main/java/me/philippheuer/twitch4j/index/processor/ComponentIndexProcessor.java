@@ -0,0 +1,221 @@
+package me.philippheuer.twitch4j.index.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import me.philippheuer.twitch4j.events.EventSubscriber;
+import me.philippheuer.twitch4j.index.ComponentIndex;
+
+/**
+ * Generates a {@link ComponentIndex} for every package with listeners, commands or modules.
+ * <p>
+ * The index contains the {@link EventSubscriber} methods with a direct invoker, and the constructors of all
+ * commands and modules. Listeners using batching, coalescing or their own deadlines are not indexed, they are registered using reflection.
+ * The generated classes are registered as services in {@code META-INF/services}.
+ */
+@SupportedAnnotationTypes("*")
+public class ComponentIndexProcessor extends AbstractProcessor {
+
+	/**
+	 * Name of the generated classes
+	 */
+	static final String INDEX_CLASS_NAME = "Twitch4JComponentIndex";
+
+	/**
+	 * Generated index classes, written to the service file in the last round
+	 */
+	private final Set<String> indexClasses = new TreeSet<>();
+
+	/**
+	 * Current round, used to generate unique class names
+	 */
+	private int round = 0;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			writeServiceFile();
+			return false;
+		}
+		round++;
+
+		TypeElement eventType = processingEnv.getElementUtils().getTypeElement("me.philippheuer.twitch4j.events.Event");
+		TypeElement commandType = processingEnv.getElementUtils().getTypeElement("me.philippheuer.twitch4j.message.commands.Command");
+		TypeElement moduleType = processingEnv.getElementUtils().getTypeElement("me.philippheuer.twitch4j.modules.IModule");
+		if (eventType == null) {
+			return false;
+		}
+
+		// registrations per package
+		Map<String, List<String>> registrations = new LinkedHashMap<>();
+		for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+			scan(type, eventType, commandType, moduleType, registrations);
+		}
+
+		registrations.forEach(this::writeIndex);
+		return false;
+	}
+
+	private void scan(TypeElement type, TypeElement eventType, TypeElement commandType, TypeElement moduleType, Map<String, List<String>> registrations) {
+		if (type.getModifiers().contains(Modifier.PRIVATE)) {
+			return;
+		}
+		ElementFilter.typesIn(type.getEnclosedElements()).forEach(nested -> scan(nested, eventType, commandType, moduleType, registrations));
+		if (type.getKind() != ElementKind.CLASS || type.getSimpleName().toString().startsWith(INDEX_CLASS_NAME)) {
+			return;
+		}
+
+		String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		List<String> statements = new ArrayList<>();
+		statements.addAll(getSubscribers(type, eventType));
+
+		if (isInstantiable(type)) {
+			String typeName = getTypeName(type.asType());
+			if (commandType != null && isSubtype(type, commandType)) {
+				statements.add(String.format("registry.addFactory(%1$s.class, %1$s::new);", typeName));
+			} else if (moduleType != null && isSubtype(type, moduleType)) {
+				statements.add(String.format("registry.addModule(%1$s.class, %1$s::new);", typeName));
+			}
+		}
+
+		if (!statements.isEmpty()) {
+			registrations.computeIfAbsent(packageName, k -> new ArrayList<>()).addAll(statements);
+		}
+	}
+
+	/**
+	 * Gets the registrations of the subscriber methods, none if any method can't be indexed
+	 */
+	private List<String> getSubscribers(TypeElement type, TypeElement eventType) {
+		List<String> statements = new ArrayList<>();
+		String typeName = getTypeName(type.asType());
+
+		for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+			EventSubscriber annotation = method.getAnnotation(EventSubscriber.class);
+			if (annotation == null || !method.getModifiers().contains(Modifier.PUBLIC) || method.getParameters().size() != 1) {
+				continue;
+			}
+			if (annotation.batchSize() > 0 || annotation.coalesceMs() > 0
+					|| annotation.softDeadlineMs() >= 0 || annotation.hardDeadlineMs() >= 0 || !annotation.quarantine()) {
+				// registered using reflection
+				return new ArrayList<>();
+			}
+
+			TypeMirror parameterType = processingEnv.getTypeUtils().erasure(method.getParameters().get(0).asType());
+			if (!processingEnv.getTypeUtils().isAssignable(parameterType, processingEnv.getTypeUtils().erasure(eventType.asType()))) {
+				continue;
+			}
+
+			boolean isStatic = method.getModifiers().contains(Modifier.STATIC);
+			String eventTypeName = getTypeName(parameterType);
+			String receiver = isStatic ? getTypeName(method.getEnclosingElement().asType()) : String.format("((%s) listener)", typeName);
+			String priority = (annotation.priority().length > 0) ? "EventPriority." + annotation.priority()[0].name() : "null";
+			statements.add(String.format(
+					"registry.addSubscriber(new IndexedSubscriber(%1$s.class, \"%2$s\", %3$s.class, SubscriberMode.%4$s, %7$s, %5$b, (listener, event) -> %6$s.%2$s((%3$s) event)));",
+					typeName, method.getSimpleName(), eventTypeName, annotation.mode().name(), isStatic, receiver, priority
+			));
+		}
+		return statements;
+	}
+
+	private boolean isSubtype(TypeElement type, TypeElement superType) {
+		return processingEnv.getTypeUtils().isSubtype(
+				processingEnv.getTypeUtils().erasure(type.asType()),
+				processingEnv.getTypeUtils().erasure(superType.asType())
+		);
+	}
+
+	/**
+	 * Checks if the class can be created using a constructor reference
+	 */
+	private boolean isInstantiable(TypeElement type) {
+		if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+		if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+			return false;
+		}
+		if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+			return false;
+		}
+
+		return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+				.anyMatch(constructor -> constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE));
+	}
+
+	private String getTypeName(TypeMirror type) {
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+
+	private void writeIndex(String packageName, List<String> statements) {
+		String className = INDEX_CLASS_NAME + ((round > 1) ? round : "");
+		String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+
+		try {
+			JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName);
+			try (Writer writer = file.openWriter()) {
+				if (!packageName.isEmpty()) {
+					writer.write("package " + packageName + ";\n\n");
+				}
+				writer.write("import me.philippheuer.twitch4j.enums.EventPriority;\n");
+				writer.write("import me.philippheuer.twitch4j.enums.SubscriberMode;\n");
+				writer.write("import me.philippheuer.twitch4j.index.ComponentIndex;\n");
+				writer.write("import me.philippheuer.twitch4j.index.ComponentRegistry;\n");
+				writer.write("import me.philippheuer.twitch4j.index.IndexedSubscriber;\n\n");
+				writer.write("/**\n * Generated by " + getClass().getSimpleName() + ", do not edit.\n */\n");
+				writer.write("public final class " + className + " implements ComponentIndex {\n\n");
+				writer.write("\t@Override\n");
+				writer.write("\tpublic void register(ComponentRegistry registry) {\n");
+				for (String statement : statements) {
+					writer.write("\t\t" + statement + "\n");
+				}
+				writer.write("\t}\n}\n");
+			}
+			indexClasses.add(qualifiedName);
+		} catch (IOException ex) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write component index " + qualifiedName + ": " + ex.getMessage());
+		}
+	}
+
+	private void writeServiceFile() {
+		if (indexClasses.isEmpty()) {
+			return;
+		}
+
+		try {
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + ComponentIndex.class.getName());
+			try (Writer writer = file.openWriter()) {
+				for (String indexClass : indexClasses) {
+					writer.write(indexClass + "\n");
+				}
+			}
+		} catch (IOException ex) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write the component index service file: " + ex.getMessage());
+		}
+	}
+}
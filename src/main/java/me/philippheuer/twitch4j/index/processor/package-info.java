@@ -0,0 +1,4 @@
+/**
+ * The classes in this package generate the component index at compile time.
+ */
+package me.philippheuer.twitch4j.index.processor;
@@ -0,0 +1,52 @@
+package me.philippheuer.twitch4j.message;
+
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Capped exponential backoff with jitter for reconnect attempts.
+ * <p>
+ * The delay doubles with every attempt up to {@link #getMaxDelay()}, the actual delay is picked randomly
+ * between half and the full delay, so multiple connections don't retry in lockstep.
+ */
+@Getter
+@Setter
+public class ExponentialBackoff {
+
+	/**
+	 * Delay of the first attempt in milliseconds
+	 */
+	private long initialDelay = 1000;
+
+	/**
+	 * Maximum delay in milliseconds
+	 */
+	private long maxDelay = 120000;
+
+	/**
+	 * Failed attempts since the last reset
+	 */
+	@Setter(AccessLevel.NONE)
+	private volatile int attempts = 0;
+
+	/**
+	 * Gets the delay of the next attempt and increases the attempt counter
+	 *
+	 * @return delay in milliseconds
+	 */
+	public long nextDelay() {
+		// 2^attempts, capped to prevent an overflow
+		long delay = Math.min(maxDelay, initialDelay << Math.min(attempts, 20));
+		attempts++;
+		return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+	}
+
+	/**
+	 * Resets the backoff after a successful connection
+	 */
+	public void reset() {
+		attempts = 0;
+	}
+}
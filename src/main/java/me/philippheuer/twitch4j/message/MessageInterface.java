@@ -2,11 +2,19 @@ package me.philippheuer.twitch4j.message;
 
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import me.philippheuer.twitch4j.TwitchClient;
+import me.philippheuer.twitch4j.enums.MessagePriority;
 import me.philippheuer.twitch4j.enums.PubSubTopics;
 import me.philippheuer.twitch4j.enums.TMIConnectionState;
+import me.philippheuer.twitch4j.message.irc.BulkJoinProgress;
 import me.philippheuer.twitch4j.message.irc.ChannelCache;
 import me.philippheuer.twitch4j.message.irc.TwitchChat;
 import me.philippheuer.twitch4j.message.pubsub.TwitchPubSub;
@@ -14,6 +22,7 @@ import me.philippheuer.twitch4j.model.Channel;
 
 @Getter
 @Setter
+@Slf4j
 public class MessageInterface {
 
 	/**
@@ -33,6 +42,16 @@ public class MessageInterface {
 	// TODO: Listener for TMI
 	// private final TMIListenere listener;
 
+	/**
+	 * Resolves the channel models of bulk joins in parallel
+	 */
+	@Getter(AccessLevel.NONE)
+	private final ExecutorService channelResolver = Executors.newFixedThreadPool(4, r -> {
+		Thread thread = new Thread(r, "Twitch Channel Resolver");
+		thread.setDaemon(true);
+		return thread;
+	});
+
 	/**
 	 * Constructor
 	 *
@@ -87,9 +106,21 @@ public class MessageInterface {
 	 * Sending message to the joined channel
 	 * @param channel channel name
 	 * @param message message
+	 * @return false, if the message was rejected, see {@link TwitchChat#sendMessage(String, String, MessagePriority)}
+	 */
+	public boolean sendMessage(String channel, String message) {
+		return twitchChat.sendMessage(channel, message);
+	}
+
+	/**
+	 * Sending message to the joined channel
+	 * @param channel channel name
+	 * @param message message
+	 * @param priority priority lane
+	 * @return false, if the message was rejected, see {@link TwitchChat#sendMessage(String, String, MessagePriority)}
 	 */
-	public void sendMessage(String channel, String message) {
-		twitchChat.sendMessage(channel, message);
+	public boolean sendMessage(String channel, String message, MessagePriority priority) {
+		return twitchChat.sendMessage(channel, message, priority);
 	}
 
 	/**
@@ -111,6 +142,28 @@ public class MessageInterface {
 		pubSub.listenChannel(ch, true);
 	}
 
+	/**
+	 * Joining multiple channels
+	 * <p>
+	 * The irc joins are staged by the join queue, the channel models for pubsub are resolved in parallel.
+	 * @param channels channel names
+	 * @return progress of the irc joins
+	 */
+	public BulkJoinProgress joinChannels(Collection<String> channels) {
+		BulkJoinProgress progress = twitchChat.joinChannels(channels);
+
+		for (String channel : channels) {
+			CompletableFuture.supplyAsync(() -> twitchClient.getChannelEndpoint().getChannel(channel), channelResolver)
+					.thenAccept(ch -> pubSub.listenChannel(ch, true))
+					.exceptionally(ex -> {
+						log.error("Failed to resolve Channel [{}]: {}", channel, ex.getMessage());
+						return null;
+					});
+		}
+
+		return progress;
+	}
+
 	/**
 	 * Leaving the channel
 	 * @param channel channel name
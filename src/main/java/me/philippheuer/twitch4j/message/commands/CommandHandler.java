@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.Setter;
@@ -18,6 +19,7 @@ import me.philippheuer.twitch4j.events.Event;
 import me.philippheuer.twitch4j.events.EventSubscriber;
 import me.philippheuer.twitch4j.events.event.UnknownCommandEvent;
 import me.philippheuer.twitch4j.events.event.irc.ChannelMessageEvent;
+import me.philippheuer.twitch4j.index.ComponentRegistry;
 
 @Getter
 @Setter
@@ -78,7 +80,8 @@ public class CommandHandler {
 
 		// Create instance of commandClass and register it
 		try {
-			Command command = (Command) Class.forName(commandClass.getName()).newInstance();
+			Supplier<? extends Command> factory = ComponentRegistry.getInstance().getFactory(commandClass);
+			Command command = (factory != null) ? factory.get() : (Command) Class.forName(commandClass.getName()).newInstance();
 			command.setTwitchClient(getTwitchClient());
 
 			// Check, if the command already was registered
@@ -0,0 +1,70 @@
+package me.philippheuer.twitch4j.message.irc;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+/**
+ * Progress of a bulk channel join.
+ * <p>
+ * Completes with the amount of joined channels once the JOIN commands for all channels have been sent.
+ */
+public class BulkJoinProgress extends CompletableFuture<Integer> {
+
+	/**
+	 * Amount of channels to join
+	 */
+	@Getter
+	private final int total;
+
+	/**
+	 * Amount of channels joined so far
+	 */
+	private final AtomicInteger joined = new AtomicInteger();
+
+	/**
+	 * Constructor
+	 *
+	 * @param total Amount of channels to join
+	 */
+	public BulkJoinProgress(int total) {
+		this.total = total;
+
+		if (total == 0) {
+			complete(0);
+		}
+	}
+
+	/**
+	 * Gets the amount of joined channels
+	 *
+	 * @return joined channels
+	 */
+	public int getJoined() {
+		return joined.get();
+	}
+
+	/**
+	 * Gets the progress
+	 *
+	 * @return value between 0 and 1
+	 */
+	public double getProgress() {
+		return (total == 0) ? 1.0 : (double) joined.get() / total;
+	}
+
+	/**
+	 * Tracks a single channel join
+	 *
+	 * @param joinFuture The future of the channel join.
+	 */
+	void track(CompletableFuture<Void> joinFuture) {
+		joinFuture.whenComplete((v, ex) -> {
+			if (ex != null) {
+				completeExceptionally(ex);
+			} else if (joined.incrementAndGet() == total) {
+				complete(total);
+			}
+		});
+	}
+}
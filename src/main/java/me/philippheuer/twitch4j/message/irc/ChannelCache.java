@@ -10,7 +10,9 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import me.philippheuer.twitch4j.enums.SubscriberMode;
 import me.philippheuer.twitch4j.events.EventSubscriber;
+import me.philippheuer.twitch4j.events.dispatch.ListenerRegistration;
 import me.philippheuer.twitch4j.events.event.irc.ChannelModEvent;
 import me.philippheuer.twitch4j.events.event.irc.ChannelStateEvent;
 import me.philippheuer.twitch4j.events.event.irc.UserBanEvent;
@@ -41,6 +43,12 @@ public class ChannelCache {
 	 */
 	private final List<User> moderators = new ArrayList<User>();
 
+	/**
+	 * Is the bot moderator in this channel? (fed by the <b>USERSTATE</b> and <b>MODE</b> commands)
+	 */
+	@Setter(AccessLevel.PACKAGE)
+	private volatile boolean botModerator = false;
+
 	/*
 	 * TODO: Mark deprecated - explanation below
 	 * We don't needed caching timeouts and bans.
@@ -65,6 +73,12 @@ public class ChannelCache {
 	 */
 	private final Map<ChannelStateEvent.ChannelState, Object> channelState = new HashMap<>();
 
+	/**
+	 * Registration of the event listeners
+	 */
+	@Getter(AccessLevel.NONE)
+	private final ListenerRegistration registration;
+
 	/**
 	 * Channel Cache
 	 *
@@ -75,31 +89,36 @@ public class ChannelCache {
 		this.chat = chat;
 		this.channel = channel;
 
-		// Register for Events from the EventDispatcher
-		chat.getTwitchClient().getDispatcher().registerListener(this);
+		// Register for the Events of this channel from the EventDispatcher
+		this.registration = chat.getTwitchClient().getDispatcher().registerListener(this, channel);
+	}
+
+	/**
+	 * Stops listening for the events of the channel
+	 */
+	void unregister() {
+		registration.unregister();
 	}
 
 	/**
 	 * Mod Grant/Removed (also caching mods after join channel)
 	 */
-	@EventSubscriber
+	@EventSubscriber(mode = SubscriberMode.INLINE)
 	public void onChannelModStatusChange(ChannelModEvent event) {
-		if(event.getChannel().getName().equals(getChannel())) {
-			// Add or remove moderator from cache
-			if(event.isMod()) {
-				if(!getModerators().contains(event.getUser())) {
-					getModerators().add(event.getUser());
-				}
-			} else {
-				getModerators().remove(event.getUser());
+		// Add or remove moderator from cache
+		if(event.isMod()) {
+			if(!getModerators().contains(event.getUser())) {
+				getModerators().add(event.getUser());
 			}
+		} else {
+			getModerators().remove(event.getUser());
 		}
 	}
 
 	/**
 	 * Timeout
 	 */
-	@EventSubscriber
+	@EventSubscriber(mode = SubscriberMode.INLINE)
 	public void onChannelTimeout(UserTimeoutEvent event) {
 		// Remove expired Events
 		for (UserTimeoutEvent timeout : getTimeoutEvents()) {
@@ -122,7 +141,7 @@ public class ChannelCache {
 	/**
 	 * Ban
 	 */
-	@EventSubscriber
+	@EventSubscriber(mode = SubscriberMode.INLINE)
 	public void onChannelBan(UserBanEvent event) {
 		// Add to Cache
 		if(!isBanCached(event)) {
@@ -133,7 +152,7 @@ public class ChannelCache {
 	/**
 	 * Channel State
 	 */
-	@EventSubscriber
+	@EventSubscriber(mode = SubscriberMode.INLINE)
 	public void onChannelState(ChannelStateEvent event) {
 		if (event.getStates().size() > 1) {
 			channelState.putAll(event.getStates());
@@ -0,0 +1,211 @@
+package me.philippheuer.twitch4j.message.irc;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import me.philippheuer.twitch4j.enums.TMIConnectionState;
+import org.isomorphism.util.TokenBucket;
+import org.isomorphism.util.TokenBuckets;
+
+/**
+ * Stages channel joins under the twitch join rate limit.
+ * <p>
+ * Joins are queued and sent by a single worker thread, which packs all channels that
+ * are ready at the same time into comma-separated JOIN commands (one per connection).
+ * Each channel consumes one token of the join bucket.
+ */
+@Slf4j
+public class ChannelJoinQueue {
+
+	/**
+	 * Maximum length of a single JOIN command
+	 */
+	private static final int MAX_COMMAND_LENGTH = 500;
+
+	/**
+	 * Queued joins
+	 */
+	private final BlockingQueue<PendingJoin> queue = new LinkedBlockingQueue<>();
+
+	/**
+	 * Futures of joins that were not sent yet, per connection and channel
+	 */
+	private final Map<PendingJoin, CompletableFuture<Void>> pendingJoins = new ConcurrentHashMap<>();
+
+	/**
+	 * Token Bucket for joins (Twitch: 20 joins per 10 seconds)
+	 */
+	@Getter
+	@Setter
+	private TokenBucket joinBucket = TokenBuckets.builder()
+			.withCapacity(20)
+			.withFixedIntervalRefillStrategy(20, 10, TimeUnit.SECONDS)
+			.build();
+
+	/**
+	 * Maximum amount of channels per JOIN command
+	 */
+	@Getter
+	@Setter
+	private int maxChannelsPerCommand = 20;
+
+	/**
+	 * Worker Thread
+	 */
+	private Thread worker;
+
+	/**
+	 * Queues a channel join
+	 *
+	 * @param connection The connection that should join the channel.
+	 * @param channel    channel name
+	 * @return A future which completes once the JOIN command has been sent.
+	 */
+	public CompletableFuture<Void> enqueue(ChatConnection connection, String channel) {
+		PendingJoin join = new PendingJoin(connection, channel);
+		CompletableFuture<Void> future = pendingJoins.computeIfAbsent(join, j -> new CompletableFuture<>());
+		queue.add(join);
+		startWorker();
+		return future;
+	}
+
+	/**
+	 * Gets the future of a channel join
+	 *
+	 * @param connection The connection that joins the channel.
+	 * @param channel    channel name
+	 * @return The pending future, or a completed future if the join was already sent.
+	 */
+	public CompletableFuture<Void> getJoinFuture(ChatConnection connection, String channel) {
+		return pendingJoins.getOrDefault(new PendingJoin(connection, channel), CompletableFuture.completedFuture(null));
+	}
+
+	/**
+	 * Gets the amount of queued joins
+	 *
+	 * @return queue size
+	 */
+	public int getQueueSize() {
+		return queue.size();
+	}
+
+	private synchronized void startWorker() {
+		if (worker == null) {
+			worker = new Thread(this::run, "Twitch IRC Join Queue");
+			worker.setDaemon(true);
+			worker.start();
+		}
+	}
+
+	private void run() {
+		List<PendingJoin> batch = new ArrayList<>();
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				// wait for the first join and a token
+				PendingJoin first = queue.take();
+				if (!first.isSendable()) {
+					drop(first);
+					continue;
+				}
+				joinBucket.consume(1);
+				batch.add(first);
+
+				// take everything else that is ready right now
+				while (batch.size() < maxChannelsPerCommand && !queue.isEmpty()) {
+					PendingJoin next = queue.peek();
+					if (!next.isSendable()) {
+						drop(queue.poll());
+					} else if (joinBucket.tryConsume(1)) {
+						batch.add(queue.poll());
+					} else {
+						break;
+					}
+				}
+
+				send(batch);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			} catch (Exception ex) {
+				log.error("Failed to join channels: {}", ex.getMessage(), ex);
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * Drops a join that can't be sent, the future is cancelled if the connection left the channel in the meantime
+	 */
+	private void drop(PendingJoin join) {
+		if (!join.connection.getChannels().contains(join.channel)) {
+			CompletableFuture<Void> future = pendingJoins.remove(join);
+			if (future != null) {
+				future.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * Sends the joins, grouped by connection and packed into as few commands as possible
+	 */
+	private void send(List<PendingJoin> batch) {
+		Map<ChatConnection, List<String>> channelsByConnection = new LinkedHashMap<>();
+		for (PendingJoin join : batch) {
+			channelsByConnection.computeIfAbsent(join.connection, c -> new ArrayList<>()).add(join.channel);
+		}
+
+		channelsByConnection.forEach((connection, channels) -> {
+			StringBuilder sb = new StringBuilder(MAX_COMMAND_LENGTH);
+			for (String channel : channels) {
+				if (sb.length() > 0 && sb.length() + channel.length() + 2 > MAX_COMMAND_LENGTH) {
+					connection.sendCommand("join", sb.toString());
+					sb.setLength(0);
+				}
+				sb.append(sb.length() > 0 ? ",#" : "#").append(channel);
+			}
+			connection.sendCommand("join", sb.toString());
+
+			for (String channel : channels) {
+				CompletableFuture<Void> future = pendingJoins.remove(new PendingJoin(connection, channel));
+				if (future != null) {
+					future.complete(null);
+				}
+			}
+			log.debug("Joined {} channel(s) on Shard {}.", channels.size(), connection.getShardId());
+		});
+	}
+
+	/**
+	 * A channel join waiting for a token
+	 */
+	@EqualsAndHashCode
+	private static class PendingJoin {
+
+		private final ChatConnection connection;
+
+		private final String channel;
+
+		private PendingJoin(ChatConnection connection, String channel) {
+			this.connection = connection;
+			this.channel = channel;
+		}
+
+		/**
+		 * Joins for disconnected connections are dropped, they are queued again once the connection is established.
+		 * Joins for channels that were left in the meantime are dropped as well.
+		 */
+		private boolean isSendable() {
+			return connection.getConnectionState().equals(TMIConnectionState.CONNECTED) && connection.getChannels().contains(channel);
+		}
+	}
+}
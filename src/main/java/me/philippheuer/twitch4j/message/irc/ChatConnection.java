@@ -0,0 +1,572 @@
+package me.philippheuer.twitch4j.message.irc;
+
+import com.neovisionaries.ws.client.WebSocket;
+import com.neovisionaries.ws.client.WebSocketAdapter;
+import com.neovisionaries.ws.client.WebSocketFactory;
+import com.neovisionaries.ws.client.WebSocketFrame;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import me.philippheuer.twitch4j.auth.model.OAuthCredential;
+import me.philippheuer.twitch4j.enums.Endpoints;
+import me.philippheuer.twitch4j.enums.TMIConnectionState;
+import me.philippheuer.twitch4j.events.event.irc.IRCMessageEvent;
+import me.philippheuer.twitch4j.message.ExponentialBackoff;
+
+/**
+ * A single connection (shard) to the twitch irc, managed by the {@link ChatConnectionPool}.
+ */
+@Getter
+@Slf4j
+public class ChatConnection {
+
+	/**
+	 * Frames above this capacity are not retained after they have been written
+	 */
+	private static final int MAX_RETAINED_FRAME_CAPACITY = 16 * 1024;
+
+	/**
+	 * Time until the login has to be confirmed, in milliseconds
+	 */
+	private static final long HEALTH_CHECK_DELAY = 15000;
+
+	/**
+	 * Interval of our own PINGs, in milliseconds
+	 */
+	private static final long PING_INTERVAL = 60000;
+
+	/**
+	 * Time without any traffic until the connection is considered stalled, in milliseconds
+	 * (a PING was not answered within 10 seconds)
+	 */
+	private static final long STALL_TIMEOUT = PING_INTERVAL + 10000;
+
+	/**
+	 * Interval of the keepalive check, in milliseconds
+	 */
+	private static final long KEEPALIVE_CHECK_INTERVAL = 5000;
+
+	/**
+	 * Twitch Chat
+	 */
+	private final TwitchChat chat;
+
+	/**
+	 * Shard Id, the shard 0 is the primary connection
+	 */
+	private final int shardId;
+
+	/**
+	 * WebSocket Client
+	 */
+	@Getter(AccessLevel.NONE)
+	private WebSocket ws;
+
+	/**
+	 * Web Socket Lock
+	 */
+	@Getter(AccessLevel.NONE)
+	private final ReentrantLock wsLock = new ReentrantLock();
+
+	/**
+	 * The connection state
+	 * Default: ({@link TMIConnectionState#DISCONNECTED})
+	 */
+	@Setter(AccessLevel.PROTECTED)
+	private volatile TMIConnectionState connectionState = TMIConnectionState.DISCONNECTED;
+
+	/**
+	 * Channels joined by this connection
+	 */
+	@Getter(AccessLevel.NONE)
+	private final Set<String> channels = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Outgoing chat messages
+	 */
+	private final OutboundQueue outboundQueue;
+
+	/**
+	 * Commands that were not written yet, reused for all frames
+	 */
+	@Getter(AccessLevel.NONE)
+	private final StringBuilder pendingFrame = new StringBuilder(512);
+
+	/**
+	 * Reconnect Backoff
+	 */
+	private final ExponentialBackoff backoff = new ExponentialBackoff();
+
+	/**
+	 * Was the login confirmed by the server?
+	 */
+	@Getter(AccessLevel.NONE)
+	private volatile boolean loggedIn = false;
+
+	/**
+	 * Round-trip times of our PINGs
+	 */
+	private final RoundTripTracker roundTrips = new RoundTripTracker();
+
+	/**
+	 * Time of the last received message
+	 */
+	private volatile long lastActivity = 0;
+
+	/**
+	 * Token of the unanswered PING
+	 */
+	@Getter(AccessLevel.NONE)
+	private volatile String pingToken;
+
+	/**
+	 * Time of the last PING ({@link System#nanoTime()})
+	 */
+	@Getter(AccessLevel.NONE)
+	private volatile long pingSentAt;
+
+	/**
+	 * Time of the last PING ({@link System#currentTimeMillis()})
+	 */
+	@Getter(AccessLevel.NONE)
+	private volatile long lastPing = 0;
+
+	/**
+	 * Scheduled keepalive check
+	 */
+	@Getter(AccessLevel.NONE)
+	private ScheduledFuture<?> keepaliveTask;
+
+	/**
+	 * Scheduled reconnect attempt
+	 */
+	@Getter(AccessLevel.NONE)
+	private ScheduledFuture<?> reconnectTask;
+
+	/**
+	 * Scheduled health check
+	 */
+	@Getter(AccessLevel.NONE)
+	private ScheduledFuture<?> healthCheckTask;
+
+	/**
+	 * Is a write of the pending frame scheduled?
+	 */
+	@Getter(AccessLevel.NONE)
+	private boolean flushScheduled = false;
+
+	/**
+	 * Constructor
+	 *
+	 * @param chat    Twitch Chat
+	 * @param shardId Shard Id
+	 */
+	public ChatConnection(TwitchChat chat, int shardId) {
+		this.chat = chat;
+		this.shardId = shardId;
+		this.outboundQueue = new OutboundQueue(this);
+	}
+
+	/**
+	 * Is this the primary connection? (receives whispers and joins the bot channel)
+	 *
+	 * @return true, if this is the shard 0
+	 */
+	public boolean isPrimary() {
+		return shardId == 0;
+	}
+
+	/**
+	 * Gets the channels joined by this connection
+	 *
+	 * @return Read-only view of the channel names
+	 */
+	public Set<String> getChannels() {
+		return Collections.unmodifiableSet(channels);
+	}
+
+	/**
+	 * Gets the amount of channels joined by this connection
+	 *
+	 * @return channel count
+	 */
+	public int getChannelCount() {
+		return channels.size();
+	}
+
+	/**
+	 * Recreate the WebSocket
+	 */
+	private void createWebSocket() {
+		try {
+			// WebSocket
+			this.ws = new WebSocketFactory().createSocket(Endpoints.IRC.getURL());
+
+			// WebSocket Listeners
+			this.ws.clearListeners();
+			this.ws.addListener(new WebSocketAdapter() {
+
+				@Override
+				public void onConnected(WebSocket ws, Map<String, List<String>> headers) {
+					log.info("Connecting to Twitch IRC [{}] (Shard {})", Endpoints.IRC.getURL(), shardId);
+
+					sendCommand("cap req", ":twitch.tv/membership twitch.tv/tags twitch.tv/commands");
+
+					// if credentials is null, it will automatically disconnect
+					Optional<OAuthCredential> credential = chat.getCredential();
+					if (!credential.isPresent()) {
+						log.error("The Twitch IRC Client needs valid Credentials from the CredentialManager.");
+						disconnect();
+						return; // do not continue script
+					}
+
+					sendCommand("pass", "oauth:" + credential.get().getToken());
+					sendCommand("nick", credential.get().getUserName());
+
+					// Connection Success
+					setConnectionState(TMIConnectionState.CONNECTED);
+
+					// Rejoin channels (staged by the join queue)
+					for (String channel : channels) {
+						chat.getJoinQueue().enqueue(ChatConnection.this, channel);
+					}
+					// then join to own channel - required for sending or receiving whispers
+					if (isPrimary()) {
+						sendCommand("join", "#" + credential.get().getUserName());
+					}
+				}
+
+				@Override
+				public void onTextMessage(WebSocket ws, String text) {
+					lastActivity = System.currentTimeMillis();
+					IRCParser.forEachLine(text, (frame, start, end) -> {
+						try {
+							IRCMessageEvent event = new IRCMessageEvent(frame, start, end);
+							String command = event.getCommandType();
+
+							// Handle messages
+							// - Ping
+							if (command.equals("PING")) {
+								sendPong(event.getPayload().orElse(":tmi.twitch.tv"));
+							}
+							// - Answer to our own ping
+							else if (command.equals("PONG")) {
+								onPong(event.getPayload().orElse(""));
+							}
+							// - Login confirmed
+							else if (command.equals("001")) {
+								onLoggedIn();
+							}
+							// - Login failed.
+							else if (command.equals("NOTICE") && !event.getChannelName().isPresent() && event.getPayload().orElse("").endsWith(":Login authentication failed")) {
+								log.error("Invalid IRC Credentials. Login failed!");
+							}
+							// - Whispers are delivered to every connection, only the primary one dispatches them
+							else if (command.equals("WHISPER") && !isPrimary()) {
+								log.trace("Ignoring whisper on shard {}", shardId);
+							}
+							// - Parsed IRC Message
+							else if (event.isValid()) {
+								if (command.equals("USERSTATE") || command.equals("GLOBALUSERSTATE") || command.equals("MODE")) {
+									chat.updateModeratorStatus(event);
+								}
+								chat.getTwitchClient().getDispatcher().dispatch(event);
+							} else {
+								log.trace("Can't parse {}", event.getRawMessage());
+							}
+						} catch (Exception ex) {
+							log.error(ex.getMessage(), ex);
+						}
+					});
+				}
+
+				@Override
+				public void onDisconnected(WebSocket websocket,
+										   WebSocketFrame serverCloseFrame, WebSocketFrame clientCloseFrame,
+										   boolean closedByServer) {
+					if (!getConnectionState().equals(TMIConnectionState.DISCONNECTING)) {
+						log.info("Connection to Twitch IRC lost (WebSocket, Shard {})!", shardId);
+
+						// connection lost - reconnecting
+						reconnect();
+					} else {
+						setConnectionState(TMIConnectionState.DISCONNECTED);
+						log.info("Disconnected from Twitch IRC (WebSocket, Shard {})!", shardId);
+					}
+				}
+			});
+
+		} catch (Exception ex) {
+			log.error(ex.getMessage(), ex);
+		}
+	}
+
+	/**
+	 * Connecting to IRC-WS
+	 * <p>
+	 * Failed attempts are retried by the scheduler of the pool, see {@link #getBackoff()}.
+	 */
+	public void connect() {
+		wsLock.lock();
+		try {
+			if (getConnectionState().equals(TMIConnectionState.DISCONNECTED) || getConnectionState().equals(TMIConnectionState.RECONNECTING)) {
+				// Change Connection State
+				setConnectionState(TMIConnectionState.CONNECTING);
+				loggedIn = false;
+				lastActivity = System.currentTimeMillis();
+
+				// Recreate Socket
+				createWebSocket();
+
+				// Connect to IRC WebSocket
+				this.ws.connect();
+
+				// Health Check - the login has to be confirmed by the server
+				healthCheckTask = chat.getConnectionPool().getScheduler().schedule(this::checkHealth, HEALTH_CHECK_DELAY, TimeUnit.MILLISECONDS);
+			}
+		} catch (Exception ex) {
+			log.error("Connection to Twitch IRC failed (Shard {}): {}", shardId, ex.getMessage());
+			closeWebSocket();
+			scheduleReconnect();
+		} finally {
+			wsLock.unlock();
+		}
+	}
+
+	/**
+	 * Disconnecting from IRC-WS
+	 */
+	public void disconnect() {
+		wsLock.lock();
+		try {
+			cancelTasks();
+
+			if (getConnectionState().equals(TMIConnectionState.CONNECTED)) {
+				setConnectionState(TMIConnectionState.DISCONNECTING);
+				sendCommand("QUIT"); // safe disconnect
+				flush();
+			}
+
+			setConnectionState(TMIConnectionState.DISCONNECTED);
+			closeWebSocket();
+		} finally {
+			wsLock.unlock();
+		}
+	}
+
+	/**
+	 * Reconnecting to IRC-WS
+	 * <p>
+	 * The connection is closed right away, the next attempt is scheduled using the backoff.
+	 */
+	public void reconnect() {
+		wsLock.lock();
+		try {
+			cancelTasks();
+			closeWebSocket();
+			scheduleReconnect();
+		} finally {
+			wsLock.unlock();
+		}
+	}
+
+	/**
+	 * Schedules the next connection attempt
+	 */
+	private void scheduleReconnect() {
+		setConnectionState(TMIConnectionState.RECONNECTING);
+
+		long delay = backoff.nextDelay();
+		log.info("Reconnecting to Twitch IRC in {} ms (Shard {}, Attempt {}).", delay, shardId, backoff.getAttempts());
+		reconnectTask = chat.getConnectionPool().getScheduler().schedule(this::connect, delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Reconnects if the login was not confirmed in time
+	 */
+	private void checkHealth() {
+		if (getConnectionState().equals(TMIConnectionState.CONNECTED) && !loggedIn) {
+			log.warn("Twitch IRC did not confirm the login (Shard {})! Reconnecting ...", shardId);
+			reconnect();
+		}
+	}
+
+	/**
+	 * The login has been confirmed, the connection is healthy
+	 */
+	private void onLoggedIn() {
+		loggedIn = true;
+		backoff.reset();
+		log.info("Logged in to Twitch IRC (Shard {}).", shardId);
+
+		if (keepaliveTask == null) {
+			keepaliveTask = chat.getConnectionPool().getScheduler().scheduleAtFixedRate(this::keepalive, KEEPALIVE_CHECK_INTERVAL, KEEPALIVE_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Sends our own PINGs and reconnects if the connection stalled
+	 */
+	private void keepalive() {
+		long now = System.currentTimeMillis();
+		if (now - lastActivity > STALL_TIMEOUT) {
+			log.warn("No traffic from Twitch IRC for {} ms (Shard {})! Reconnecting ...", now - lastActivity, shardId);
+			reconnect();
+		} else if (now - lastPing >= PING_INTERVAL) {
+			lastPing = now;
+			pingSentAt = System.nanoTime();
+			pingToken = Long.toString(pingSentAt);
+			sendCommand("PING", ":" + pingToken);
+		}
+	}
+
+	/**
+	 * Measures the round-trip time of our PING
+	 *
+	 * @param payload PONG payload, the token is the last parameter
+	 */
+	private void onPong(String payload) {
+		String token = payload.substring(payload.lastIndexOf(':') + 1);
+		if (token.equals(pingToken)) {
+			pingToken = null;
+			roundTrips.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pingSentAt));
+			log.trace("Twitch IRC round-trip time: {} ms (Shard {})", roundTrips.getLatest(), shardId);
+		}
+	}
+
+	private void cancelTasks() {
+		if (reconnectTask != null) {
+			reconnectTask.cancel(false);
+			reconnectTask = null;
+		}
+		if (healthCheckTask != null) {
+			healthCheckTask.cancel(false);
+			healthCheckTask = null;
+		}
+		if (keepaliveTask != null) {
+			keepaliveTask.cancel(false);
+			keepaliveTask = null;
+		}
+	}
+
+	private void closeWebSocket() {
+		// commands of the old session must not be sent on the next connection
+		synchronized (pendingFrame) {
+			pendingFrame.setLength(0);
+		}
+		if (this.ws != null) {
+			this.ws.clearListeners();
+			this.ws.disconnect();
+			this.ws = null;
+		}
+	}
+
+	/**
+	 * Closes the connection for good, once it has been removed from the pool
+	 *
+	 * @return The messages that were not sent yet.
+	 */
+	List<OutboundQueue.OutboundMessage> close() {
+		disconnect();
+		return outboundQueue.shutdown();
+	}
+
+	/**
+	 * Joins a channel on this connection
+	 *
+	 * @param channel channel name
+	 * @return A future which completes once the JOIN command has been sent.
+	 */
+	protected CompletableFuture<Void> joinChannel(String channel) {
+		if (channels.add(channel)) {
+			return chat.getJoinQueue().enqueue(this, channel);
+		}
+		return chat.getJoinQueue().getJoinFuture(this, channel);
+	}
+
+	/**
+	 * Leaves a channel on this connection
+	 *
+	 * @param channel channel name
+	 */
+	protected void leaveChannel(String channel) {
+		if (channels.remove(channel)) {
+			sendCommand("part", "#" + channel);
+		}
+	}
+
+	/**
+	 * Send IRC Command
+	 * <p>
+	 * Commands are appended to the pending frame, all commands queued until the frame is written are sent as
+	 * a single CRLF-delimited websocket frame.
+	 * @param command IRC Command
+	 * @param args command arguments
+	 */
+	protected void sendCommand(String command, String... args) {
+		// will send command if connection has been established
+		if (ws != null && (getConnectionState().equals(TMIConnectionState.CONNECTED) || getConnectionState().equals(TMIConnectionState.CONNECTING))) {
+			synchronized (pendingFrame) {
+				if (pendingFrame.length() > 0) {
+					pendingFrame.append("\r\n");
+				}
+				// command will be uppercase.
+				pendingFrame.append(command.toUpperCase());
+				for (String arg : args) {
+					pendingFrame.append(' ').append(arg);
+				}
+
+				if (!flushScheduled) {
+					flushScheduled = true;
+					chat.getConnectionPool().getFrameWriter().execute(this::flush);
+				}
+			}
+		} else {
+			log.warn("Can't send IRC-WS Command [{} {}]", command.toUpperCase(), String.join(" ", args));
+		}
+	}
+
+	/**
+	 * Writes the pending frame
+	 */
+	private void flush() {
+		String frame;
+		synchronized (pendingFrame) {
+			flushScheduled = false;
+			if (pendingFrame.length() == 0) {
+				return;
+			}
+			frame = pendingFrame.toString();
+			pendingFrame.setLength(0);
+			// release the memory of unusually large frames
+			if (pendingFrame.capacity() > MAX_RETAINED_FRAME_CAPACITY) {
+				pendingFrame.trimToSize();
+			}
+		}
+
+		WebSocket ws = this.ws;
+		if (ws != null) {
+			ws.sendText(frame);
+		}
+	}
+
+	/**
+	 * Answer to twitch's ping request
+	 *
+	 * @param arg
+	 */
+	public void sendPong(String arg) {
+		sendCommand("PONG", arg);
+	}
+}
@@ -0,0 +1,278 @@
+package me.philippheuer.twitch4j.message.irc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import me.philippheuer.twitch4j.enums.TMIConnectionState;
+import org.springframework.util.Assert;
+
+/**
+ * Spreads the joined channels over multiple irc connections (shards).
+ * <p>
+ * Every connection holds up to {@link #getChannelsPerConnection()} channels, new connections
+ * are opened once all existing connections are full. Connections that become empty or that
+ * can be merged into other connections after leaving channels are closed again.
+ * Each connection reconnects independently of the others.
+ */
+@Slf4j
+public class ChatConnectionPool {
+
+	/**
+	 * Twitch Chat
+	 */
+	private final TwitchChat chat;
+
+	/**
+	 * Connections, index equals the shard id
+	 */
+	private final List<ChatConnection> connections = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Channel to Connection
+	 */
+	private final Map<String, ChatConnection> channelConnections = new ConcurrentHashMap<>();
+
+	/**
+	 * Maximum amount of channels per connection
+	 * Default: unlimited (single connection)
+	 */
+	@Getter
+	private int channelsPerConnection = Integer.MAX_VALUE;
+
+	/**
+	 * Writes the pending frames of all connections
+	 */
+	@Getter(AccessLevel.PACKAGE)
+	private final ExecutorService frameWriter = Executors.newSingleThreadExecutor(r -> {
+		Thread thread = new Thread(r, "Twitch IRC Frame Writer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Schedules reconnects and health checks of all connections
+	 */
+	@Getter(AccessLevel.PACKAGE)
+	private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2, r -> {
+		Thread thread = new Thread(r, "Twitch IRC Scheduler");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Should new connections be opened right away?
+	 */
+	private volatile boolean running = false;
+
+	/**
+	 * Constructor
+	 *
+	 * @param chat Twitch Chat
+	 */
+	public ChatConnectionPool(TwitchChat chat) {
+		this.chat = chat;
+
+		// primary connection
+		connections.add(new ChatConnection(chat, 0));
+	}
+
+	/**
+	 * Sets the maximum amount of channels per connection and rebalances the channels.
+	 *
+	 * @param channelsPerConnection channels per connection
+	 */
+	public synchronized void setChannelsPerConnection(int channelsPerConnection) {
+		Assert.isTrue(channelsPerConnection > 0, "Channels per connection must be greater than 0");
+		this.channelsPerConnection = channelsPerConnection;
+
+		// move channels away from overfull connections
+		for (ChatConnection connection : connections) {
+			List<String> overflow = new ArrayList<>(connection.getChannels());
+			for (int i = channelsPerConnection; i < overflow.size(); i++) {
+				move(overflow.get(i), connection, findConnectionWithCapacity(connection));
+			}
+		}
+
+		rebalance();
+	}
+
+	/**
+	 * Gets the primary connection
+	 *
+	 * @return The connection with the shard id 0.
+	 */
+	public ChatConnection getPrimaryConnection() {
+		return connections.get(0);
+	}
+
+	/**
+	 * Gets all connections
+	 *
+	 * @return Read-only list of all connections, ordered by shard id.
+	 */
+	public List<ChatConnection> getConnections() {
+		return Collections.unmodifiableList(connections);
+	}
+
+	/**
+	 * Gets the connection which joined the channel
+	 *
+	 * @param channel channel name
+	 * @return The connection of the channel, or the primary connection for unknown channels.
+	 */
+	public ChatConnection getConnection(String channel) {
+		return channelConnections.getOrDefault(channel, getPrimaryConnection());
+	}
+
+	/**
+	 * Gets the connection with the lowest round-trip time
+	 *
+	 * @return The connected connection with the lowest 90th percentile round-trip time, or the primary connection.
+	 */
+	public ChatConnection getHealthiestConnection() {
+		return connections.stream()
+				.filter(c -> c.getConnectionState().equals(TMIConnectionState.CONNECTED))
+				.min(Comparator.comparingLong(c -> (c.getRoundTrips().getSampleCount() == 0) ? Long.MAX_VALUE : c.getRoundTrips().getPercentile(90)))
+				.orElseGet(this::getPrimaryConnection);
+	}
+
+	/**
+	 * Connects all connections
+	 */
+	public void connect() {
+		running = true;
+		connections.forEach(ChatConnection::connect);
+	}
+
+	/**
+	 * Disconnects all connections
+	 */
+	public void disconnect() {
+		running = false;
+		connections.forEach(ChatConnection::disconnect);
+	}
+
+	/**
+	 * Reconnects all connections
+	 */
+	public void reconnect() {
+		running = true;
+		connections.forEach(ChatConnection::reconnect);
+	}
+
+	/**
+	 * Assigns a channel to the least used connection and joins it
+	 *
+	 * @param channel channel name
+	 * @return A future which completes once the JOIN command has been sent.
+	 */
+	public synchronized CompletableFuture<Void> joinChannel(String channel) {
+		ChatConnection connection = channelConnections.get(channel);
+		if (connection == null) {
+			connection = findConnectionWithCapacity(null);
+			channelConnections.put(channel, connection);
+
+			log.debug("Assigned Channel [{}] to Shard {}.", channel, connection.getShardId());
+		}
+		return connection.joinChannel(channel);
+	}
+
+	/**
+	 * Leaves a channel and rebalances the connections
+	 *
+	 * @param channel channel name
+	 */
+	public synchronized void leaveChannel(String channel) {
+		ChatConnection connection = channelConnections.remove(channel);
+		if (connection != null) {
+			connection.leaveChannel(channel);
+			rebalance();
+		}
+	}
+
+	/**
+	 * Finds the least used connection with free capacity, a new connection will be created if all are full.
+	 *
+	 * @param exclude connection which should not be used (can be null)
+	 * @return connection
+	 */
+	private ChatConnection findConnectionWithCapacity(ChatConnection exclude) {
+		return connections.stream()
+				.filter(c -> c != exclude && c.getChannelCount() < channelsPerConnection)
+				.min(Comparator.comparingInt(ChatConnection::getChannelCount))
+				.orElseGet(this::openConnection);
+	}
+
+	/**
+	 * Opens a new connection
+	 *
+	 * @return The new connection.
+	 */
+	private ChatConnection openConnection() {
+		ChatConnection connection = new ChatConnection(chat, connections.size());
+		connections.add(connection);
+		log.info("Opening new Twitch IRC Shard {}.", connection.getShardId());
+
+		if (running) {
+			connection.connect();
+		}
+		return connection;
+	}
+
+	/**
+	 * Moves a channel to another connection (leaves once the join has been sent, so no messages get lost).
+	 * The old connection also leaves if the join has been cancelled, as the channel has been left in the meantime.
+	 *
+	 * @return A future which completes once the channel has been moved.
+	 */
+	private CompletableFuture<Void> move(String channel, ChatConnection from, ChatConnection to) {
+		channelConnections.put(channel, to);
+		return to.joinChannel(channel).whenComplete((result, ex) -> from.leaveChannel(channel));
+	}
+
+	/**
+	 * Closes the last connections if their channels fit into the remaining connections.
+	 * Only the last shard is closed so the shard ids always match the position in the pool.
+	 */
+	private void rebalance() {
+		while (connections.size() > 1) {
+			ChatConnection last = connections.get(connections.size() - 1);
+			// the capacity is unlimited by default, stop counting once the channels fit
+			long freeCapacity = 0;
+			for (ChatConnection connection : connections) {
+				if (connection != last && freeCapacity < last.getChannelCount()) {
+					freeCapacity += Math.max(0, channelsPerConnection - connection.getChannelCount());
+				}
+			}
+			if (last.getChannelCount() > freeCapacity) {
+				return;
+			}
+
+			List<CompletableFuture<Void>> moves = new ArrayList<>();
+			for (String channel : last.getChannels()) {
+				moves.add(move(channel, last, findConnectionWithCapacity(last)));
+			}
+
+			connections.remove(last);
+			// the shard is closed even if moves failed, so it doesn't stay joined to any channel
+			CompletableFuture.allOf(moves.toArray(new CompletableFuture<?>[0])).whenComplete((result, ex) -> {
+				// queued messages are sent by the new connections of their channels
+				for (OutboundQueue.OutboundMessage message : last.close()) {
+					getConnection(message.getChannel()).getOutboundQueue().add(message.getPriority(), message.getChannel(), message.getMessage());
+				}
+				log.info("Closed Twitch IRC Shard {}.", last.getShardId());
+			});
+		}
+	}
+}
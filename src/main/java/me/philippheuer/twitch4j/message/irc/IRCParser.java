@@ -0,0 +1,155 @@
+package me.philippheuer.twitch4j.message.irc;
+
+/**
+ * Allocation-free helpers to scan IRCv3 frames.
+ * <p>
+ * All methods work on offsets into the raw frame, so no intermediate strings
+ * are created unless a caller explicitly asks for a value.
+ */
+public final class IRCParser {
+
+	/**
+	 * Callback for a single line inside of a frame
+	 */
+	@FunctionalInterface
+	public interface LineConsumer {
+
+		/**
+		 * Called for every non-empty line of a frame.
+		 *
+		 * @param frame The raw frame.
+		 * @param start Index of the first character of the line.
+		 * @param end   Index after the last character of the line.
+		 */
+		void accept(String frame, int start, int end);
+	}
+
+	private IRCParser() {
+	}
+
+	/**
+	 * Splits a (possibly multi-line) frame into its lines without copying.
+	 *
+	 * @param frame    The raw websocket frame.
+	 * @param consumer Called for every non-empty line.
+	 */
+	public static void forEachLine(String frame, LineConsumer consumer) {
+		int length = frame.length();
+		int lineStart = 0;
+		for (int i = 0; i < length; i++) {
+			char c = frame.charAt(i);
+			if (c == '\r' || c == '\n') {
+				if (i > lineStart) {
+					consumer.accept(frame, lineStart, i);
+				}
+				lineStart = i + 1;
+			}
+		}
+		if (lineStart < length) {
+			consumer.accept(frame, lineStart, length);
+		}
+	}
+
+	/**
+	 * Finds the next occurrence of a character inside of a range.
+	 *
+	 * @param s    The string.
+	 * @param c    The character.
+	 * @param from Start index (inclusive).
+	 * @param to   End index (exclusive).
+	 * @return The index, or -1 if the character is not present.
+	 */
+	public static int indexOf(String s, char c, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (s.charAt(i) == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Locates a key inside of a <code>key=value;key=value</code> section.
+	 *
+	 * @param s         The string.
+	 * @param from      Start of the section (inclusive).
+	 * @param to        End of the section (exclusive).
+	 * @param key       The key to look for.
+	 * @param separator The pair separator, ';' for tags and ',' for badges.
+	 * @param assign    The key/value separator, '=' for tags and '/' for badges.
+	 * @return Index of the first value character, or -1 if the key is not present.
+	 */
+	public static int indexOfValue(String s, int from, int to, String key, char separator, char assign) {
+		int keyLength = key.length();
+		int pos = from;
+		while (pos < to) {
+			int pairEnd = indexOf(s, separator, pos, to);
+			if (pairEnd < 0) pairEnd = to;
+
+			int keyEnd = pos + keyLength;
+			if (keyEnd <= pairEnd && s.regionMatches(pos, key, 0, keyLength)) {
+				if (keyEnd == pairEnd) {
+					return keyEnd;
+				} else if (s.charAt(keyEnd) == assign) {
+					return keyEnd + 1;
+				}
+			}
+			pos = pairEnd + 1;
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the end of a value that starts at the provided index.
+	 *
+	 * @param s          The string.
+	 * @param valueStart Index returned by {@link #indexOfValue(String, int, int, String, char, char)}.
+	 * @param to         End of the section (exclusive).
+	 * @param separator  The pair separator.
+	 * @return Index after the last character of the value.
+	 */
+	public static int valueEnd(String s, int valueStart, int to, char separator) {
+		int end = indexOf(s, separator, valueStart, to);
+		return end < 0 ? to : end;
+	}
+
+	/**
+	 * Reverts the IRCv3 tag value escaping (<code>\s \: \\ \r \n</code>).
+	 *
+	 * @param value The escaped value.
+	 * @return The plain value.
+	 */
+	public static String unescapeTagValue(String value) {
+		if (value == null || value.indexOf('\\') < 0) {
+			return value;
+		}
+
+		StringBuilder sb = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '\\' && i + 1 < value.length()) {
+				char next = value.charAt(++i);
+				switch (next) {
+					case 's':
+						sb.append(' ');
+						break;
+					case ':':
+						sb.append(';');
+						break;
+					case 'r':
+						sb.append('\r');
+						break;
+					case 'n':
+						sb.append('\n');
+						break;
+					default:
+						sb.append(next);
+						break;
+				}
+			} else if (c != '\\') {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,50 @@
+package me.philippheuer.twitch4j.message.irc;
+
+import lombok.Getter;
+import lombok.Setter;
+import me.philippheuer.twitch4j.enums.MessagePriority;
+import me.philippheuer.twitch4j.enums.OverflowPolicy;
+import org.isomorphism.util.TokenBucket;
+
+/**
+ * Settings of an outbound message lane, shared by all connections.
+ */
+@Getter
+@Setter
+public class OutboundLane {
+
+	/**
+	 * Priority
+	 */
+	private final MessagePriority priority;
+
+	/**
+	 * Maximum amount of queued messages per connection
+	 */
+	private int capacity;
+
+	/**
+	 * Policy when the lane is full
+	 */
+	private OverflowPolicy overflowPolicy;
+
+	/**
+	 * Token Bucket of the lane, applied in addition to the chat message bucket
+	 */
+	private TokenBucket bucket;
+
+	/**
+	 * Constructor
+	 *
+	 * @param priority       Priority
+	 * @param capacity       Maximum amount of queued messages per connection
+	 * @param overflowPolicy Policy when the lane is full
+	 * @param bucket         Token Bucket of the lane
+	 */
+	public OutboundLane(MessagePriority priority, int capacity, OverflowPolicy overflowPolicy, TokenBucket bucket) {
+		this.priority = priority;
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+		this.bucket = bucket;
+	}
+}
@@ -0,0 +1,341 @@
+package me.philippheuer.twitch4j.message.irc;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import me.philippheuer.twitch4j.enums.MessagePriority;
+import me.philippheuer.twitch4j.enums.TMIConnectionState;
+import org.isomorphism.util.TokenBucket;
+
+/**
+ * Outgoing chat messages of a single connection.
+ * <p>
+ * Messages are queued into one bounded lane per {@link MessagePriority} and written by a single writer thread.
+ * The writer always sends the head of the highest priority lane that has tokens available,
+ * each message consumes one token of its lane bucket and one token of the chat message bucket.
+ * All messages that have tokens available at the same time are written as a single frame.
+ */
+@Slf4j
+public class OutboundQueue {
+
+	/**
+	 * Maximum length of a merged message
+	 */
+	private static final int MAX_MESSAGE_LENGTH = 500;
+
+	/**
+	 * Maximum time the writer waits before checking the buckets again
+	 */
+	private static final long MAX_WAIT_MILLIS = 1000;
+
+	/**
+	 * Maximum amount of messages written at once
+	 */
+	private static final int MAX_BATCH_SIZE = 20;
+
+	/**
+	 * Connection
+	 */
+	private final ChatConnection connection;
+
+	/**
+	 * Queued messages per lane
+	 */
+	private final Map<MessagePriority, Deque<OutboundMessage>> lanes = new EnumMap<>(MessagePriority.class);
+
+	/**
+	 * Lock for the lanes
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * Signalled when a message has been queued
+	 */
+	private final Condition messageQueued = lock.newCondition();
+
+	/**
+	 * Writer Thread
+	 */
+	private Thread writer;
+
+	/**
+	 * Is the queue accepting messages?
+	 */
+	private volatile boolean running = true;
+
+	/**
+	 * Constructor
+	 *
+	 * @param connection Connection
+	 */
+	public OutboundQueue(ChatConnection connection) {
+		this.connection = connection;
+		for (MessagePriority priority : MessagePriority.values()) {
+			lanes.put(priority, new ArrayDeque<>());
+		}
+	}
+
+	/**
+	 * Queues a message
+	 *
+	 * @param priority Priority lane
+	 * @param channel  channel name
+	 * @param message  message
+	 * @return false, if the message was dropped
+	 */
+	public boolean add(MessagePriority priority, String channel, String message) {
+		OutboundLane lane = connection.getChat().getOutboundLane(priority);
+
+		lock.lock();
+		try {
+			if (!running) {
+				return false;
+			}
+
+			Deque<OutboundMessage> queue = lanes.get(priority);
+			if (queue.size() >= lane.getCapacity()) {
+				switch (lane.getOverflowPolicy()) {
+					case MERGE:
+						if (merge(queue, channel, message)) {
+							return true;
+						}
+						// can't merge, drop the oldest message instead
+						dropOldest(priority, queue);
+						break;
+					case DROP_OLDEST:
+						dropOldest(priority, queue);
+						break;
+					case DROP_NEWEST:
+						log.warn("Outbound lane {} is full (Shard {}), dropped message to Channel [{}].", priority, connection.getShardId(), channel);
+						return false;
+				}
+			}
+
+			queue.addLast(new OutboundMessage(priority, channel, message));
+			startWriter();
+			messageQueued.signal();
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Gets the amount of queued messages
+	 *
+	 * @param priority Priority lane
+	 * @return queue size
+	 */
+	public int getQueueSize(MessagePriority priority) {
+		lock.lock();
+		try {
+			return lanes.get(priority).size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Stops the writer
+	 *
+	 * @return The messages that were not sent yet.
+	 */
+	List<OutboundMessage> shutdown() {
+		lock.lock();
+		try {
+			running = false;
+			List<OutboundMessage> remaining = new ArrayList<>();
+			lanes.values().forEach(queue -> {
+				remaining.addAll(queue);
+				queue.clear();
+			});
+			messageQueued.signal();
+			return remaining;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Merges a message into a queued message of the same channel
+	 *
+	 * @return true, if the message has been merged
+	 */
+	private boolean merge(Deque<OutboundMessage> queue, String channel, String message) {
+		OutboundMessage latest = null;
+		for (Iterator<OutboundMessage> it = queue.descendingIterator(); it.hasNext(); ) {
+			OutboundMessage queued = it.next();
+			if (queued.getChannel().equals(channel)) {
+				if (queued.getMessage().equals(message)) {
+					return true;
+				}
+				if (latest == null) {
+					latest = queued;
+				}
+			}
+		}
+
+		if (latest != null && !isCommand(latest.getMessage()) && !isCommand(message)
+				&& latest.getMessage().length() + message.length() + 1 <= MAX_MESSAGE_LENGTH) {
+			latest.message = latest.getMessage() + " " + message;
+			return true;
+		}
+		return false;
+	}
+
+	private void dropOldest(MessagePriority priority, Deque<OutboundMessage> queue) {
+		OutboundMessage dropped = queue.pollFirst();
+		log.warn("Outbound lane {} is full (Shard {}), dropped message to Channel [{}].", priority, connection.getShardId(), dropped.getChannel());
+	}
+
+	private static boolean isCommand(String message) {
+		return message.startsWith("/") || message.startsWith(".");
+	}
+
+	private void startWriter() {
+		if (writer == null) {
+			writer = new Thread(this::run, "Twitch IRC Writer (Shard " + connection.getShardId() + ")");
+			writer.setDaemon(true);
+			writer.start();
+		}
+	}
+
+	private void run() {
+		while (running) {
+			try {
+				List<OutboundMessage> pending = new ArrayList<>();
+				lock.lock();
+				try {
+					for (Deque<OutboundMessage> queue : lanes.values()) {
+						Iterator<OutboundMessage> it = queue.iterator();
+						for (int i = 0; i < MAX_BATCH_SIZE && it.hasNext(); i++) {
+							pending.add(it.next());
+						}
+					}
+					if (pending.isEmpty()) {
+						messageQueued.await();
+						continue;
+					}
+				} finally {
+					lock.unlock();
+				}
+				// messages are kept while the connection is down
+				if (!connection.getConnectionState().equals(TMIConnectionState.CONNECTED)) {
+					Thread.sleep(100);
+					continue;
+				}
+
+				// resolve the chat buckets of the next messages outside of the lock
+				for (OutboundMessage message : pending) {
+					if (message.chatBucket == null) {
+						message.chatBucket = connection.getChat().getChatBucket(message.getChannel());
+					}
+				}
+
+				// take all messages that have tokens available, they are written as a single frame
+				List<OutboundMessage> batch = new ArrayList<>();
+				List<String> texts = new ArrayList<>();
+				long waitMillis = MAX_WAIT_MILLIS;
+				lock.lock();
+				try {
+					boolean found = true;
+					while (found && batch.size() < MAX_BATCH_SIZE) {
+						found = false;
+						for (Deque<OutboundMessage> queue : lanes.values()) {
+							OutboundMessage head = queue.peekFirst();
+							if (head == null) continue;
+							if (head.chatBucket == null) {
+								// not resolved yet
+								waitMillis = 0;
+								continue;
+							}
+
+							TokenBucket laneBucket = connection.getChat().getOutboundLane(head.getPriority()).getBucket();
+							if (tryConsume(laneBucket, head.chatBucket)) {
+								batch.add(queue.pollFirst());
+								texts.add(head.getMessage());
+								found = true;
+								break;
+							}
+							waitMillis = Math.min(waitMillis, Math.max(millisUntilRefill(laneBucket), millisUntilRefill(head.chatBucket)));
+						}
+					}
+
+					if (batch.isEmpty() && waitMillis > 0) {
+						messageQueued.await(waitMillis, TimeUnit.MILLISECONDS);
+					}
+				} finally {
+					lock.unlock();
+				}
+
+				for (int i = 0; i < batch.size(); i++) {
+					connection.sendCommand("privmsg", "#" + batch.get(i).getChannel(), ":" + texts.get(i));
+					log.debug("Message send to Channel [{}] with content [{}].", batch.get(i).getChannel(), texts.get(i));
+				}
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception ex) {
+				log.error("Failed to send message: {}", ex.getMessage(), ex);
+			}
+		}
+	}
+
+	/**
+	 * Consumes one token of both buckets, or none of them
+	 */
+	private static boolean tryConsume(TokenBucket laneBucket, TokenBucket chatBucket) {
+		if (!laneBucket.tryConsume()) {
+			return false;
+		}
+		if (!chatBucket.tryConsume()) {
+			laneBucket.refill(1);
+			return false;
+		}
+		return true;
+	}
+
+	private static long millisUntilRefill(TokenBucket bucket) {
+		if (bucket.getNumTokens() > 0) {
+			return 0;
+		}
+		try {
+			return Math.max(1, bucket.getDurationUntilNextRefill(TimeUnit.MILLISECONDS));
+		} catch (UnsupportedOperationException ex) {
+			return 100;
+		}
+	}
+
+	/**
+	 * A queued message
+	 */
+	@Getter
+	static class OutboundMessage {
+
+		private final MessagePriority priority;
+
+		private final String channel;
+
+		private String message;
+
+		/**
+		 * Chat message bucket, resolved by the writer
+		 */
+		private TokenBucket chatBucket;
+
+		private OutboundMessage(MessagePriority priority, String channel, String message) {
+			this.priority = priority;
+			this.channel = channel;
+			this.message = message;
+		}
+	}
+}
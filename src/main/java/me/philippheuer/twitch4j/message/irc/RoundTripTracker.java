@@ -0,0 +1,70 @@
+package me.philippheuer.twitch4j.message.irc;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the latest round-trip times of a connection, measured using PING/PONG.
+ */
+public class RoundTripTracker {
+
+	/**
+	 * Amount of samples used for the percentiles
+	 */
+	private static final int MAX_SAMPLES = 64;
+
+	/**
+	 * Samples in milliseconds (ring buffer)
+	 */
+	private final long[] samples = new long[MAX_SAMPLES];
+
+	/**
+	 * Amount of recorded samples
+	 */
+	private int count = 0;
+
+	/**
+	 * Records a round-trip time
+	 *
+	 * @param millis round-trip time in milliseconds
+	 */
+	public synchronized void record(long millis) {
+		samples[count % MAX_SAMPLES] = millis;
+		count++;
+	}
+
+	/**
+	 * Gets the amount of samples
+	 *
+	 * @return Amount of samples used for the percentiles.
+	 */
+	public synchronized int getSampleCount() {
+		return Math.min(count, MAX_SAMPLES);
+	}
+
+	/**
+	 * Gets the latest round-trip time
+	 *
+	 * @return round-trip time in milliseconds, -1 if nothing was measured yet
+	 */
+	public synchronized long getLatest() {
+		return (count == 0) ? -1 : samples[(count - 1) % MAX_SAMPLES];
+	}
+
+	/**
+	 * Gets a percentile of the latest round-trip times
+	 *
+	 * @param percentile percentile (0 - 100)
+	 * @return round-trip time in milliseconds, -1 if nothing was measured yet
+	 */
+	public synchronized long getPercentile(double percentile) {
+		int size = getSampleCount();
+		if (size == 0) {
+			return -1;
+		}
+
+		long[] sorted = Arrays.copyOf(samples, size);
+		Arrays.sort(sorted);
+		int index = (int) Math.ceil(percentile / 100 * size) - 1;
+		return sorted[Math.max(0, Math.min(size - 1, index))];
+	}
+}
@@ -1,17 +1,12 @@
 package me.philippheuer.twitch4j.message.irc;
 
-import com.neovisionaries.ws.client.WebSocket;
-import com.neovisionaries.ws.client.WebSocketAdapter;
-import com.neovisionaries.ws.client.WebSocketFactory;
-import com.neovisionaries.ws.client.WebSocketFrame;
 import java.util.AbstractMap;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.Getter;
@@ -19,11 +14,11 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import me.philippheuer.twitch4j.TwitchClient;
 import me.philippheuer.twitch4j.auth.model.OAuthCredential;
-import me.philippheuer.twitch4j.enums.Endpoints;
+import me.philippheuer.twitch4j.enums.MessagePriority;
+import me.philippheuer.twitch4j.enums.OverflowPolicy;
 import me.philippheuer.twitch4j.enums.Scope;
 import me.philippheuer.twitch4j.enums.TMIConnectionState;
 import me.philippheuer.twitch4j.events.event.irc.IRCMessageEvent;
-import me.philippheuer.twitch4j.model.Channel;
 import me.philippheuer.twitch4j.model.User;
 import me.philippheuer.twitch4j.model.UserChat;
 import org.isomorphism.util.TokenBucket;
@@ -56,47 +51,61 @@ public class TwitchChat {
 	}
 
 	/**
-	 * WebSocket Client
+	 * Twitch Client
 	 */
 	@Setter(AccessLevel.NONE)
-	private WebSocket ws;
+	private final TwitchClient twitchClient;
 
 	/**
-	 * Web Socket Lock
+	 * List of Joined channels
 	 */
-	private ReentrantLock wsLock = new ReentrantLock();
+	private final Map<String, ChannelCache> channelCache = new ConcurrentHashMap<>();
 
 	/**
-	 * Twitch Client
+	 * Irc Connections
 	 */
 	@Setter(AccessLevel.NONE)
-	private final TwitchClient twitchClient;
-
-	/**
-	 * List of Joined channels
-	 */
-	private final Map<String, ChannelCache> channelCache = new HashMap<>();
+	private final ChatConnectionPool connectionPool;
 
 	/**
-	 * The connection state
-	 * Default: ({@link TMIConnectionState#DISCONNECTED})
+	 * Join Queue (join rate limit)
 	 */
-	private TMIConnectionState connectionState = TMIConnectionState.DISCONNECTED;
+	@Setter(AccessLevel.NONE)
+	private final ChannelJoinQueue joinQueue = new ChannelJoinQueue();
 
 	/**
 	 * Token Bucket for message limits
 	 */
-	private TokenBucket messageBucket;
+	private TokenBucket messageBucket = setDefaultMessageBucket();
 
 	/**
 	 * Token Bucket for moderated channels
 	 */
 	// TODO: Moderator Message Bucket moved to channel cache
-	private final Map<String, TokenBucket> modMessageBucket = new HashMap<>();
+	private final Map<String, TokenBucket> modMessageBucket = new ConcurrentHashMap<>();
 
+	/**
+	 * Outbound message lanes
+	 */
 	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final Map<MessagePriority, OutboundLane> outboundLanes = new EnumMap<>(MessagePriority.class);
+
+	@Getter(AccessLevel.PACKAGE)
 	private Optional<OAuthCredential> credential = Optional.empty();
 
+	/**
+	 * User Id of the bot, cached at login
+	 */
+	@Setter(AccessLevel.NONE)
+	private volatile Long botUserId;
+
+	/**
+	 * User Name of the bot, cached at login
+	 */
+	@Setter(AccessLevel.NONE)
+	private volatile String botUserName;
+
 	/**
 	 * IRC WebSocket
 	 * @param client TwitchClient.
@@ -104,103 +113,45 @@ public class TwitchChat {
 	public TwitchChat(TwitchClient client) {
 		this.twitchClient = client;
 
-		// Create WebSocket
-		createWebSocket();
+		// moderation actions, queued actions are never dropped, new actions are rejected if the lane is full
+		outboundLanes.put(MessagePriority.MODERATION, new OutboundLane(MessagePriority.MODERATION, 500, OverflowPolicy.DROP_NEWEST, TokenBuckets.builder()
+				.withCapacity(100)
+				.withFixedIntervalRefillStrategy(1, 300, TimeUnit.MILLISECONDS)
+				.build()));
+		// replies, outdated replies are dropped
+		outboundLanes.put(MessagePriority.NORMAL, new OutboundLane(MessagePriority.NORMAL, 100, OverflowPolicy.DROP_OLDEST, TokenBuckets.builder()
+				.withCapacity(100)
+				.withFixedIntervalRefillStrategy(1, 300, TimeUnit.MILLISECONDS)
+				.build()));
+		// bulk output, limited to a small share of the message limit
+		outboundLanes.put(MessagePriority.BULK, new OutboundLane(MessagePriority.BULK, 1000, OverflowPolicy.MERGE, TokenBuckets.builder()
+				.withCapacity(10)
+				.withFixedIntervalRefillStrategy(1, 3, TimeUnit.SECONDS)
+				.build()));
+
+		this.connectionPool = new ChatConnectionPool(this);
 	}
 
 	/**
-	 * Recreate the WebSocket
+	 * Gets the settings of an outbound message lane
+	 *
+	 * @param priority Priority
+	 * @return The lane settings, shared by all connections.
 	 */
-	private void createWebSocket() {
-		try {
-			// WebSocket
-			this.ws = new WebSocketFactory().createSocket(Endpoints.IRC.getURL());
-
-			// WebSocket Listeners
-			this.ws.clearListeners();
-			this.ws.addListener(new WebSocketAdapter() {
-
-				@Override
-				public void onConnected(WebSocket ws, Map<String, List<String>> headers) {
-					log.info("Connecting to Twitch IRC [%s]", Endpoints.IRC.getURL());
-
-					sendCommand("cap req", ":twitch.tv/membership twitch.tv/tags twitch.tv/commands");
-
-					// if credentials is null, it will automatically disconnect
-					if (!credential.isPresent()) {
-						log.error("The Twitch IRC Client needs valid Credentials from the CredentialManager.");
-						disconnect();
-						return; // do not continue script
-					}
-
-					sendCommand("pass", String.format("oauth:%s", credential.get().getToken()));
-					sendCommand("nick", credential.get().getUserName());
-
-					// Join defined channels
-					if (!getChannelCache().isEmpty()) {
-						for (String channel : getChannelCache().keySet()) {
-							sendCommand("join", "#" + channel);
-						}
-					}
-					// then join to own channel - required for sending or receiving whispers
-					sendCommand("join", "#" + credential.get().getUserName());
-
-					// Connection Success
-					setConnectionState(TMIConnectionState.CONNECTED);
-				}
-
-				@Override
-				public void onTextMessage(WebSocket ws, String text) {
-					Arrays.asList(text.replace("\n\r", "\n")
-							.replace("\r", "\n").split("\n"))
-							.forEach(message -> {
-								if (!message.equals("")) {
-									// Handle messages
-									// - Ping
-									if(message.contains("PING :tmi.twitch.tv")) {
-										sendPong(":tmi.twitch.tv");
-									}
-									// - Login failed.
-									else if(message.equals(":tmi.twitch.tv NOTICE * :Login authentication failed")) {
-										log.error("Invalid IRC Credentials. Login failed!");
-									}
-									// - Parse IRC Message
-									else
-									{
-										try {
-											IRCMessageEvent event = new IRCMessageEvent(message);
-
-											if(event.isValid()) {
-												getTwitchClient().getDispatcher().dispatch(event);
-											} else {
-												log.trace("Can't parse {}", event.getRawMessage());
-											}
-										} catch (Exception ex) {
-											log.error(ex.getMessage(), ex);
-										}
-									}
-								}
-							});
-				}
-				public void onDisconnected(WebSocket websocket,
-										   WebSocketFrame serverCloseFrame, WebSocketFrame clientCloseFrame,
-										   boolean closedByServer) {
-					if (!getConnectionState().equals(TMIConnectionState.DISCONNECTING)) {
-						log.info("Connection to Twitch IRC lost (WebSocket)! Retrying ...");
-
-						// connection lost - reconnecting
-						reconnect();
-					} else {
-						setConnectionState(TMIConnectionState.DISCONNECTED);
-						log.info("Disconnected from Twitch IRC (WebSocket)!");
-					}
-				}
-			});
+	public OutboundLane getOutboundLane(MessagePriority priority) {
+		return outboundLanes.get(priority);
+	}
 
-		} catch (Exception ex) {
-			log.error(ex.getMessage(), ex);
-		}
+	/**
+	 * The connection state of the primary connection
+	 * Default: ({@link TMIConnectionState#DISCONNECTED})
+	 *
+	 * @return The connection state.
+	 */
+	public TMIConnectionState getConnectionState() {
+		return connectionPool.getPrimaryConnection().getConnectionState();
 	}
+
 	/**
 	 * Increased Token Bucket, when <b>isKnownBot</b> is <b>true</b>
 	 * @return increased token bucket
@@ -227,70 +178,31 @@ public class TwitchChat {
 	 * Connecting to IRC-WS
 	 */
 	public void connect() {
-		// Lock
-		wsLock.lock();
-
-		if (getConnectionState().equals(TMIConnectionState.DISCONNECTED) || getConnectionState().equals(TMIConnectionState.RECONNECTING)) {
-			try {
-				// Change Connection State
-				setConnectionState(TMIConnectionState.CONNECTING);
-
-				// Get Credential from CredentialManager
-				credential = twitchClient.getCredentialManager().getTwitchCredentialsForIRC();
-				Assert.isTrue(credential.isPresent(), "No valid IRC Credential!");
-
-				// Recreate Socket if state does not equal CREATED
-				createWebSocket();
-
-				// Connect to IRC WebSocket
-				this.ws.connect();
-				wsLock.unlock();
-
-				// Message Bucket
-				updateMessageBucket();
-			} catch (Exception ex) {
-				log.error("Connection to Twitch IRC failed: {} - Retrying ...", ex.getMessage());
-
-				try {
-					Thread.sleep(1000);
-				} catch (Exception et) {
-					log.error(et.getMessage(), et);
-				}
+		// Get Credential from CredentialManager
+		credential = twitchClient.getCredentialManager().getTwitchCredentialsForIRC();
+		Assert.isTrue(credential.isPresent(), "No valid IRC Credential!");
+		botUserId = credential.get().getUserId();
+		botUserName = credential.get().getUserName();
 
-				wsLock.unlock();
-				reconnect();
-			}
-		}
+		// Connect all shards
+		connectionPool.connect();
+
+		// Message Bucket
+		updateMessageBucket();
 	}
 
 	/**
 	 * Disconnecting from IRC-WS
 	 */
 	public void disconnect() {
-		wsLock.lock();
-
-		if (getConnectionState().equals(TMIConnectionState.CONNECTED)) {
-			setConnectionState(TMIConnectionState.DISCONNECTING);
-			sendCommand("QUIT"); // safe disconnect
-		}
-
-		setConnectionState(TMIConnectionState.DISCONNECTED);
-
-		// CleanUp
-		this.ws.clearListeners();
-		this.ws.disconnect();
-		this.ws = null;
-
-		wsLock.unlock();
+		connectionPool.disconnect();
 	}
 
 	/**
 	 * Reconnecting to IRC-WS
 	 */
 	public void reconnect() {
-		setConnectionState(TMIConnectionState.RECONNECTING);
-		disconnect();
-		connect();
+		connectionPool.reconnect();
 	}
 
 	/**
@@ -306,30 +218,6 @@ public class TwitchChat {
 		}
 	}
 
-	/**
-	 * Send IRC Command
-	 * @param command IRC Command
-	 * @param args command arguments
-	 */
-	private void sendCommand(String command, String... args) {
-		// will send command if connection has been established
-		if (getConnectionState().equals(TMIConnectionState.CONNECTED) || getConnectionState().equals(TMIConnectionState.CONNECTING)) {
-			// command will be uppercase.
-			this.ws.sendText(String.format("%s %s", command.toUpperCase(), String.join(" ", args)));
-		} else {
-			log.warn("Can't send IRC-WS Command [{} {}]", command.toUpperCase(), String.join(" ", args));
-		}
-	}
-
-	/**
-	 * Answer to twitch's ping request
-	 *
-	 * @param arg
-	 */
-	public void sendPong(String arg) {
-		sendCommand("PONG", arg);
-	}
-
 	/**
 	 * Check if the bot has moderator permissions in a channel.
 	 * Uses the channel cache, so it will always return false for channel you didn't join before.
@@ -338,17 +226,37 @@ public class TwitchChat {
 	 * @return Moderator (true) or User (false)
 	 */
 	public boolean isModerator(String channel) {
-		User botUser = getTwitchClient().getUserEndpoint().getUser(credential.get().getUserId());
-		// Get Credential from CredentialManager
-		if(getChannelCache().containsKey(channel)) {
-			for(User mod : getChannelCache().get(channel).getModerators()) {
-				if (mod.getId().equals(botUser.getId())) {
-					return true;
+		ChannelCache cache = channelCache.get(channel);
+		return cache != null && cache.isBotModerator();
+	}
+
+	/**
+	 * Updates the moderator status of the bot from the <b>USERSTATE</b>, <b>GLOBALUSERSTATE</b> and <b>MODE</b> commands
+	 * @param event IRCMessageEvent
+	 */
+	void updateModeratorStatus(IRCMessageEvent event) {
+		switch (event.getCommandType()) {
+			case "GLOBALUSERSTATE":
+				// the user id is only missing if the credential wasn't validated
+				if (botUserId == null) {
+					botUserId = event.getUserId();
 				}
-			}
+				break;
+			case "USERSTATE":
+				// sent for the bot itself after joining and after every message
+				event.getChannelName().map(channelCache::get).ifPresent(cache -> cache.setBotModerator(
+						event.getTagValue("mod").map("1"::equals).orElse(false) || event.getBadges().containsKey("broadcaster")
+				));
+				break;
+			case "MODE":
+				String payload = event.getPayload().orElse("");
+				if (payload.length() > 3 && payload.charAt(1) == 'o' && payload.substring(3).equalsIgnoreCase(botUserName)) {
+					event.getChannelName().map(channelCache::get).ifPresent(cache -> cache.setBotModerator(payload.charAt(0) == '+'));
+				}
+				break;
+			default:
+				break;
 		}
-
-		return false;
 	}
 
 	/**
@@ -357,17 +265,46 @@ public class TwitchChat {
 	 */
 	public void joinChannel(String channel) {
 		if (!channelCache.containsKey(channel)) {
-			sendCommand("join", "#" + channel);
-			channelCache.put(channel, new ChannelCache(this, channel));
+			createChannelCache(channel);
+			connectionPool.joinChannel(channel);
 
 			log.debug("Joining Channel [{}].", channel);
+		}
+	}
 
-			TokenBucket modBucket = TokenBuckets.builder()
-					.withCapacity(100)
-					.withFixedIntervalRefillStrategy(1, 300, TimeUnit.MILLISECONDS)
-					.build();
-			modMessageBucket.put(channel, modBucket);
+	/**
+	 * Joining multiple channels
+	 * <p>
+	 * The channels are joined in batches, staged under the twitch join rate limit.
+	 *
+	 * @param channels channel names
+	 * @return The progress of the join, completes once all JOIN commands have been sent.
+	 */
+	public BulkJoinProgress joinChannels(Collection<String> channels) {
+		BulkJoinProgress progress = new BulkJoinProgress(channels.size());
+		for (String channel : channels) {
+			if (!channelCache.containsKey(channel)) {
+				createChannelCache(channel);
+			}
+			progress.track(connectionPool.joinChannel(channel));
 		}
+
+		log.debug("Joining {} Channels.", channels.size());
+		return progress;
+	}
+
+	/**
+	 * Creates the cache and message bucket of a channel
+	 * @param channel channel name
+	 */
+	private void createChannelCache(String channel) {
+		channelCache.put(channel, new ChannelCache(this, channel));
+
+		TokenBucket modBucket = TokenBuckets.builder()
+				.withCapacity(100)
+				.withFixedIntervalRefillStrategy(1, 300, TimeUnit.MILLISECONDS)
+				.build();
+		modMessageBucket.put(channel, modBucket);
 	}
 
 	/**
@@ -385,10 +322,9 @@ public class TwitchChat {
 	 * @param channelName channel name
 	 */
 	public void leaveChannel(String channelName) {
-		Channel channel = twitchClient.getChannelEndpoint().getChannel(channelName);
 		if (channelCache.containsKey(channelName)) {
-			sendCommand("part", "#" + channel.getName());
-			channelCache.remove(channelName);
+			connectionPool.leaveChannel(channelName);
+			channelCache.remove(channelName).unregister();
 
 			log.debug("Leaving Channel [{}].", channelName);
 		}
@@ -400,26 +336,66 @@ public class TwitchChat {
 
 	/**
 	 * Sending message to the joined channel
+	 * <p>
+	 * Moderation commands are sent using the {@link MessagePriority#MODERATION} lane, all other messages using the {@link MessagePriority#NORMAL} lane.
 	 * @param channel channel name
 	 * @param message message
+	 * @return false, if the message was rejected, see {@link #sendMessage(String, String, MessagePriority)}
 	 */
-	public void sendMessage(String channel, String message) {
-		log.debug("Sending message to channel [{}] with content [{}].", channel, message);
-		new Thread(() -> {
-			// Consume 1 Token (wait's in case the limit has been exceeded)
-			if (isModerator(channel)) {
-				// Only for channels if bot is moderator
-				modMessageBucket.get(channel).consume(1);
-			} else {
-				messageBucket.consume(1);
-			}
+	public boolean sendMessage(String channel, String message) {
+		return sendMessage(channel, message, isModerationCommand(message) ? MessagePriority.MODERATION : MessagePriority.NORMAL);
+	}
 
-			// Send Message
-			sendCommand("privmsg", "#" + channel, ":" + message);
+	/**
+	 * Sending message to the joined channel
+	 * <p>
+	 * A full {@link MessagePriority#MODERATION} lane never drops queued actions, new actions are rejected instead.
+	 * @param channel channel name
+	 * @param message message
+	 * @param priority priority lane
+	 * @return false, if the message was rejected because the lane is full or the connection has been closed
+	 */
+	public boolean sendMessage(String channel, String message, MessagePriority priority) {
+		log.debug("Queueing message to channel [{}] with content [{}].", channel, message);
+		return connectionPool.getConnection(channel).getOutboundQueue().add(priority, channel, message);
+	}
 
-			// Logging
-			log.debug("Message send to Channel [{}] with content [{}].", channel, message);
-		}).start();
+	/**
+	 * Gets the bucket for messages to a channel
+	 * @param channel channel name
+	 * @return moderator bucket if the bot is moderator in the channel, the message bucket otherwise
+	 */
+	TokenBucket getChatBucket(String channel) {
+		TokenBucket modBucket = modMessageBucket.get(channel);
+		return (modBucket != null && isModerator(channel)) ? modBucket : messageBucket;
+	}
+
+	private static boolean isModerationCommand(String message) {
+		if (!message.startsWith("/") && !message.startsWith(".")) {
+			return false;
+		}
+		int end = message.indexOf(' ');
+		switch (message.substring(1, (end == -1) ? message.length() : end).toLowerCase()) {
+			case "timeout":
+			case "untimeout":
+			case "ban":
+			case "unban":
+			case "delete":
+			case "clear":
+			case "slow":
+			case "slowoff":
+			case "followers":
+			case "followersoff":
+			case "subscribers":
+			case "subscribersoff":
+			case "emoteonly":
+			case "emoteonlyoff":
+			case "r9kbeta":
+			case "r9kbetaoff":
+				return true;
+			default:
+				return false;
+		}
 	}
 
 	public void setColor(String hexColor) {
@@ -441,8 +417,9 @@ public class TwitchChat {
 	 */
 	public void sendPrivateMessage(String username, String message) {
 		User twitchUser = twitchClient.getUserEndpoint().getUserByUserName(username);
+		// whispers can be sent using any connection
 		twitchClient.getCredentialManager().getTwitchCredentialsForIRC().ifPresent( credential ->
-				sendCommand("privmsg", "#" + credential.getUserName(), "/w", twitchUser.getName(), message));
+				connectionPool.getHealthiestConnection().sendCommand("privmsg", "#" + credential.getUserName(), "/w", twitchUser.getName(), message));
 	}
 
 	/**
@@ -4,8 +4,12 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import lombok.AccessLevel;
 import lombok.Getter;
 import me.philippheuer.twitch4j.TwitchClient;
+import me.philippheuer.twitch4j.enums.EventHydration;
 import me.philippheuer.twitch4j.events.EventSubscriber;
 import me.philippheuer.twitch4j.events.event.channel.CheerEvent;
 import me.philippheuer.twitch4j.events.event.channel.HostOffEvent;
@@ -32,6 +36,7 @@ import me.philippheuer.twitch4j.model.User;
  * IRC Event Listener
  *
  * Listens for any irc triggered events and created the corresponding events for the EventDispatcher.
+ * Every irc message is routed by its command (and msg-id for NOTICE/USERNOTICE) to exactly one decoder.
  */
 @Getter
 public class IRCEventListener {
@@ -41,6 +46,24 @@ public class IRCEventListener {
 	 */
 	private final TwitchClient twitchClient;
 
+	/**
+	 * Decoders by irc command
+	 */
+	@Getter(AccessLevel.NONE)
+	private final Map<String, Consumer<IRCMessageEvent>> commandRoutes = new HashMap<>();
+
+	/**
+	 * Decoders of USERNOTICE by msg-id
+	 */
+	@Getter(AccessLevel.NONE)
+	private final Map<String, Consumer<IRCMessageEvent>> userNoticeRoutes = new HashMap<>();
+
+	/**
+	 * Decoders of NOTICE by msg-id, called in addition to the {@link ChannelNoticeEvent}
+	 */
+	@Getter(AccessLevel.NONE)
+	private final Map<String, BiConsumer<IRCMessageEvent, Channel>> noticeRoutes = new HashMap<>();
+
 	/**
 	 * Constructor
 	 *
@@ -48,138 +71,154 @@ public class IRCEventListener {
 	 */
 	public IRCEventListener(TwitchClient twitchClient) {
 		this.twitchClient = twitchClient;
+
+		commandRoutes.put("PRIVMSG", this::onPrivMsg);
+		commandRoutes.put("WHISPER", this::onWhisper);
+		commandRoutes.put("USERNOTICE", event -> event.getTagValue("msg-id").map(id -> userNoticeRoutes.get(id.toLowerCase())).ifPresent(decoder -> decoder.accept(event)));
+		commandRoutes.put("CLEARCHAT", this::onClearChat);
+		commandRoutes.put("JOIN", this::onChannnelClientJoinEvent);
+		commandRoutes.put("PART", this::onChannnelClientLeaveEvent);
+		commandRoutes.put("MODE", this::onChannelModChange);
+		commandRoutes.put("NOTICE", this::onNoticeEvent);
+		commandRoutes.put("ROOMSTATE", this::onChannelState);
+
+		userNoticeRoutes.put("sub", this::onChannelSubscription);
+		userNoticeRoutes.put("resub", this::onChannelSubscription);
+
+		noticeRoutes.put("host_on", this::onHostOnEvent);
+		noticeRoutes.put("host_off", this::onHostOffEvent);
 	}
 
 	/**
-	 * Channel Message Event
+	 * Routes the irc message to its decoder
 	 * @param event IRCMessageEvent
 	 */
 	@EventSubscriber
-	public void onChannelMessage(IRCMessageEvent event) {
-		if(event.getCommandType().equals("PRIVMSG")) {
-			if(!event.getTags().containsKey("bits") && event.getMessage().isPresent()) {
-				// Load Info
-				Channel channel = event.getClient().getChannelEndpoint().getChannel(event.getChannelId());
-				User user = event.getClient().getUserEndpoint().getUser(event.getUserId());
-				// Dispatch Event
-				if(event.getMessage().get().startsWith("\u0001ACTION ")) {
-					// Action
-					event.getClient().getDispatcher().dispatch(new ChannelMessageActionEvent(channel, user, event.getMessage().get().substring(8), event.getClientPermissions()));
-				} else {
-					// Regular Message
-					event.getClient().getDispatcher().dispatch(new ChannelMessageEvent(channel, user, event.getMessage().get(), event.getClientPermissions()));
-				}
-			}
+	public void onIRCMessage(IRCMessageEvent event) {
+		Consumer<IRCMessageEvent> decoder = commandRoutes.get(event.getCommandType());
+		if (decoder != null) {
+			decoder.accept(event);
 		}
 	}
 
 	/**
-	 * Whisper Event
+	 * Channel Message or Cheer
 	 * @param event IRCMessageEvent
 	 */
-	@EventSubscriber
-	public void onWhisper(IRCMessageEvent event) {
-		if(event.getCommandType().equals("WHISPER")) {
-			// Load Info
-			User user = event.getClient().getUserEndpoint().getUser(event.getUserId());
+	private void onPrivMsg(IRCMessageEvent event) {
+		if(event.hasTag("bits")) {
+			onChannelCheer(event);
+		} else if(event.getMessage().isPresent()) {
+			onChannelMessage(event);
+		}
+	}
 
-			// Dispatch Event
-			event.getClient().getDispatcher().dispatch(new PrivateMessageEvent(user, event.getMessage().get(), event.getClientPermissions()));
+	/**
+	 * Channel Message Event
+	 * @param event IRCMessageEvent
+	 */
+	private void onChannelMessage(IRCMessageEvent event) {
+		// Load Info
+		Channel channel = resolveChannel(event);
+		User user = resolveUser(event);
+		// Dispatch Event
+		if(event.getMessage().get().startsWith("\u0001ACTION ")) {
+			// Action
+			event.getClient().getDispatcher().dispatch(new ChannelMessageActionEvent(channel, user, event.getMessage().get().substring(8), event.getClientPermissions()));
+		} else {
+			// Regular Message
+			event.getClient().getDispatcher().dispatch(new ChannelMessageEvent(channel, user, event.getMessage().get(), event.getClientPermissions()));
 		}
 	}
 
 	/**
-	 * Channel Cheer (Bits) Event
+	 * Whisper Event
 	 * @param event IRCMessageEvent
 	 */
-	@EventSubscriber
-	public void onChannelCheer(IRCMessageEvent event) {
-		if(event.getCommandType().equals("PRIVMSG")) {
-			if(event.getTags().containsKey("bits")) {
-				// Load Info
-				Channel channel = event.getClient().getChannelEndpoint().getChannel(event.getChannelId());
-				User user = event.getClient().getUserEndpoint().getUser(event.getUserId());
-				String message = event.getMessage().orElse("");
-				Integer bits = Integer.parseInt(event.getTags().get("bits"));
+	private void onWhisper(IRCMessageEvent event) {
+		// Load Info
+		User user = resolveUser(event);
 
-				// Dispatch Event
-				event.getClient().getDispatcher().dispatch(new CheerEvent(channel, user, message, bits));
-			}
-		}
+		// Dispatch Event
+		event.getClient().getDispatcher().dispatch(new PrivateMessageEvent(user, event.getMessage().get(), event.getClientPermissions()));
+	}
+
+	/**
+	 * Channel Cheer (Bits) Event
+	 * @param event IRCMessageEvent
+	 */
+	private void onChannelCheer(IRCMessageEvent event) {
+		// Load Info
+		Channel channel = resolveChannel(event);
+		User user = resolveUser(event);
+		String message = event.getMessage().orElse("");
+		Integer bits = Integer.parseInt(event.getTagValue("bits").get());
+
+		// Dispatch Event
+		event.getClient().getDispatcher().dispatch(new CheerEvent(channel, user, message, bits));
 	}
 
 	/**
 	 * Channel Subscription Event
 	 * @param event IRCMessageEvent
 	 */
-	@EventSubscriber
-	public void onChannelSubscription(IRCMessageEvent event) {
-		if(event.getCommandType().equals("USERNOTICE") && event.getTags().containsKey("msg-id")) {
-			if(event.getTags().get("msg-id").equalsIgnoreCase("sub") || event.getTags().get("msg-id").equalsIgnoreCase("resub")) {
-				// Load Info
-				Channel channel = event.getClient().getChannelEndpoint().getChannel(event.getChannelName().get());
-				User user = event.getClient().getUserEndpoint().getUserByUserName(event.getTagValue("login").get());
-				String subPlan = event.getTagValue("msg-param-sub-plan").get();
-				boolean isResub = event.getTags().get("msg-id").equalsIgnoreCase("resub");
-				Integer subStreak = (event.getTags().containsKey("msg-param-months")) ? Integer.parseInt(event.getTags().get("msg-param-months")) : 1;
-
-				// Twitch sometimes returns 0 months for new subs
-				if(subStreak == 0) {
-					subStreak = 1;
-				}
+	private void onChannelSubscription(IRCMessageEvent event) {
+		// Load Info
+		Channel channel = resolveChannel(event);
+		User user = resolveUser(event.getUserId(), event.getTagValue("login").get(), event.getTagValue("display-name").orElse(null));
+		String subPlan = event.getTagValue("msg-param-sub-plan").get();
+		Integer subStreak = event.getTagValue("msg-param-months").map(Integer::parseInt).orElse(1);
+
+		// Twitch sometimes returns 0 months for new subs
+		if(subStreak == 0) {
+			subStreak = 1;
+		}
 
-				// Build Subscription Entity
-				Subscription entity = new Subscription();
-				entity.setCreatedAt(Instant.now());
-				entity.setUser(user);
-				entity.setSubPlanByCode(subPlan);
+		// Build Subscription Entity
+		Subscription entity = new Subscription();
+		entity.setCreatedAt(Instant.now());
+		entity.setUser(user);
+		entity.setSubPlanByCode(subPlan);
 
-				// Dispatch Event
-				event.getClient().getDispatcher().dispatch(new SubscriptionEvent(channel, entity, event.getMessage(), subStreak));
-			}
-		}
+		// Dispatch Event
+		event.getClient().getDispatcher().dispatch(new SubscriptionEvent(channel, entity, event.getMessage(), subStreak));
 	}
 
 	/**
 	 * Channel clearing chat, timeouting or banning user Event
 	 * @param event IRCMessageEvent
 	 */
-	@EventSubscriber
-	public void onClearChat(IRCMessageEvent event) {
-		if (event.getCommandType().equals("CLEARCHAT")) {
-			Channel channel = event.getClient().getChannelEndpoint().getChannel(event.getChannelId());
-			if (event.getTags().containsKey("target-user-id")) { // ban or timeout
-				if (event.getTags().containsKey("ban-duration")) { // timeout
-					// Load Info
-					User user = event.getClient().getUserEndpoint().getUser(Long.parseLong(event.getTags().get("target-user-id")));
-					Integer duration = Integer.parseInt(event.getTagValue("ban-duration").get());
-					String banReason = event.getTags().get("ban-reason") != null ? event.getTags().get("ban-reason").toString() : "";
-					banReason = banReason.replaceAll("\\\\s", " ");
-					UserTimeoutEvent timeoutEvent = new UserTimeoutEvent(channel, user, duration, banReason);
-
-					// Check ChannelCache to prevent duplicate events
-					ChannelCache cache = getTwitchClient().getMessageInterface().getTwitchChat().getChannelCache().getOrDefault(channel.getName(), null);
-					if(cache != null && cache.isTimeoutCached(timeoutEvent)) return;
-
-					// Dispatch Event
-					event.getClient().getDispatcher().dispatch(timeoutEvent);
-				} else { // ban
-					// Load Info
-					User user = event.getClient().getUserEndpoint().getUser(Long.parseLong(event.getTagValue("target-user-id").get()));
-					String banReason = event.getTagValue("ban-reason").orElse("");
-					banReason = banReason.replaceAll("\\\\s", " ");
-					UserBanEvent banEvent = new UserBanEvent(channel, user, banReason);
-
-					// Check ChannelCache to prevent duplicate events
-					ChannelCache cache = getTwitchClient().getMessageInterface().getTwitchChat().getChannelCache().getOrDefault(channel.getName(), null);
-					if(cache != null && cache.isBanCached(banEvent)) return;
-
-					// Dispatch Event
-					event.getClient().getDispatcher().dispatch(banEvent);
-				}
-			} else { // Clear chat event
-				event.getClient().getDispatcher().dispatch(new ClearChatEvent(channel));
+	private void onClearChat(IRCMessageEvent event) {
+		Channel channel = resolveChannel(event);
+		if (event.hasTag("target-user-id")) { // ban or timeout
+			if (event.hasTag("ban-duration")) { // timeout
+				// Load Info
+				User user = resolveUser(Long.parseLong(event.getTagValue("target-user-id").get()), event.getMessage().orElse(null), null);
+				Integer duration = Integer.parseInt(event.getTagValue("ban-duration").get());
+				String banReason = event.getTagValue("ban-reason").orElse("");
+				UserTimeoutEvent timeoutEvent = new UserTimeoutEvent(channel, user, duration, banReason);
+
+				// Check ChannelCache to prevent duplicate events
+				ChannelCache cache = getTwitchClient().getMessageInterface().getTwitchChat().getChannelCache().getOrDefault(channel.getName(), null);
+				if(cache != null && cache.isTimeoutCached(timeoutEvent)) return;
+
+				// Dispatch Event
+				event.getClient().getDispatcher().dispatch(timeoutEvent);
+			} else { // ban
+				// Load Info
+				User user = resolveUser(Long.parseLong(event.getTagValue("target-user-id").get()), event.getMessage().orElse(null), null);
+				String banReason = event.getTagValue("ban-reason").orElse("");
+				UserBanEvent banEvent = new UserBanEvent(channel, user, banReason);
+
+				// Check ChannelCache to prevent duplicate events
+				ChannelCache cache = getTwitchClient().getMessageInterface().getTwitchChat().getChannelCache().getOrDefault(channel.getName(), null);
+				if(cache != null && cache.isBanCached(banEvent)) return;
+
+				// Dispatch Event
+				event.getClient().getDispatcher().dispatch(banEvent);
 			}
+		} else { // Clear chat event
+			event.getClient().getDispatcher().dispatch(new ClearChatEvent(channel));
 		}
 	}
 
@@ -187,12 +226,11 @@ public class IRCEventListener {
 	 * User Joins Channel Event
 	 * @param event IRCMessageEvent
 	 */
-	@EventSubscriber
-	public void onChannnelClientJoinEvent(IRCMessageEvent event) {
-		if(event.getCommandType().equals("JOIN") && event.getChannelName().isPresent() && event.getClientName().isPresent()) {
+	private void onChannnelClientJoinEvent(IRCMessageEvent event) {
+		if(event.getChannelName().isPresent() && event.getClientName().isPresent()) {
 			// Load Info
-			Channel channel = event.getClient().getChannelEndpoint().getChannel(event.getChannelName().get());
-			User user = event.getClient().getUserEndpoint().getUserByUserName(event.getClientName().get());
+			Channel channel = resolveChannel(event);
+			User user = resolveUser(null, event.getClientName().get(), null);
 
 			// Dispatch Event
 			event.getClient().getDispatcher().dispatch(new ChannelJoinEvent(channel, user));
@@ -203,12 +241,11 @@ public class IRCEventListener {
 	 * User Leaves Channel Event
 	 * @param event IRCMessageEvent
 	 */
-	@EventSubscriber
-	public void onChannnelClientLeaveEvent(IRCMessageEvent event) {
-		if(event.getCommandType().equals("PART") && event.getChannelName().isPresent() && event.getClientName().isPresent()) {
+	private void onChannnelClientLeaveEvent(IRCMessageEvent event) {
+		if(event.getChannelName().isPresent() && event.getClientName().isPresent()) {
 			// Load Info
-			Channel channel = event.getClient().getChannelEndpoint().getChannel(event.getChannelName().get());
-			User user = event.getClient().getUserEndpoint().getUserByUserName(event.getClientName().get());
+			Channel channel = resolveChannel(event);
+			User user = resolveUser(null, event.getClientName().get(), null);
 
 			// Dispatch Event
 			event.getClient().getDispatcher().dispatch(new ChannelLeaveEvent(channel, user));
@@ -219,93 +256,152 @@ public class IRCEventListener {
 	 * Mod Status Change Event
 	 * @param event IRCMessageEvent
 	 */
-	@EventSubscriber
-	public void onChannelModChange(IRCMessageEvent event) {
-		if(event.getCommandType().equals("MODE") && event.getPayload().isPresent()) {
-			// Recieving Mod Status
-			if(event.getPayload().get().substring(1).startsWith("o")) {
-				// Load Info
-				Channel channel = event.getClient().getChannelEndpoint().getChannel(event.getChannelName().get());
-				User user = event.getClient().getUserEndpoint().getUserByUserName(event.getPayload().get().substring(3));
+	private void onChannelModChange(IRCMessageEvent event) {
+		// Recieving Mod Status
+		if(event.getPayload().isPresent() && event.getPayload().get().substring(1).startsWith("o")) {
+			// Load Info
+			Channel channel = resolveChannel(event);
+			User user = resolveUser(null, event.getPayload().get().substring(3), null);
 
-				// Dispatch Event
-				event.getClient().getDispatcher().dispatch(new ChannelModEvent(channel, user, event.getPayload().get().startsWith("+")));
-			}
+			// Dispatch Event
+			event.getClient().getDispatcher().dispatch(new ChannelModEvent(channel, user, event.getPayload().get().startsWith("+")));
 		}
 	}
 
-	@EventSubscriber
-	public void onNoticeEvent(IRCMessageEvent event) {
-		if (event.getCommandType().equals("NOTICE")) {
-			Channel channel = event.getClient().getChannelEndpoint().getChannel(event.getChannelName().get());
-			String messageId = event.getTagValue("msg-id").get();
-			String message = event.getMessage().get();
+	/**
+	 * Channel Notice Event, followed by the decoder of the msg-id
+	 * @param event IRCMessageEvent
+	 */
+	private void onNoticeEvent(IRCMessageEvent event) {
+		// notices without msg-id (login failed, ...) are not channel notices
+		if (!event.hasTag("msg-id")) return;
+
+		Channel channel = resolveChannel(event);
+		String messageId = event.getTagValue("msg-id").get();
+		String message = event.getMessage().get();
 
-			event.getClient().getDispatcher().dispatch(new ChannelNoticeEvent(channel, messageId, message));
+		event.getClient().getDispatcher().dispatch(new ChannelNoticeEvent(channel, messageId, message));
+
+		BiConsumer<IRCMessageEvent, Channel> decoder = noticeRoutes.get(messageId);
+		if (decoder != null) {
+			decoder.accept(event, channel);
 		}
 	}
 
-	@EventSubscriber
-	public void onHostOnEvent(IRCMessageEvent event) {
-		if (event.getCommandType().equals("NOTICE")) {
-			Channel channel = event.getClient().getChannelEndpoint().getChannel(event.getChannelName().get());
-			String messageId = event.getTagValue("msg-id").get();
+	/**
+	 * Host On Event (NOTICE host_on)
+	 * @param event IRCMessageEvent
+	 * @param channel The channel of the notice.
+	 */
+	private void onHostOnEvent(IRCMessageEvent event, Channel channel) {
+		String message = event.getMessage().get();
+		String targetChannelName = message.substring(12, message.length() - 1);
+		Channel targetChannel = resolveChannel(null, targetChannelName);
 
-			if(messageId.equals("host_on")) {
-				String message = event.getMessage().get();
-				String targetChannelName = message.substring(12, message.length() - 1);
-				Channel targetChannel = event.getClient().getChannelEndpoint().getChannel(targetChannelName);
+		event.getClient().getDispatcher().dispatch(new HostOnEvent(channel, targetChannel));
+	}
 
-				event.getClient().getDispatcher().dispatch(new HostOnEvent(channel, targetChannel));
-			}
+	/**
+	 * Host Off Event (NOTICE host_off)
+	 * @param event IRCMessageEvent
+	 * @param channel The channel of the notice.
+	 */
+	private void onHostOffEvent(IRCMessageEvent event, Channel channel) {
+		event.getClient().getDispatcher().dispatch(new HostOffEvent(channel));
+	}
+
+	/**
+	 * Channel State Event
+	 * @param event IRCMessageEvent
+	 */
+	private void onChannelState(IRCMessageEvent event) {
+		// getting Status on channel
+		Channel channel = resolveChannel(event);
+		Map<ChannelStateEvent.ChannelState, Object> states = new HashMap<ChannelStateEvent.ChannelState, Object>();
+		if (event.getTags().size() > 2) {
+			event.getTags().forEach((k, v) -> {
+				switch (k) {
+					case "broadcaster-lang":
+						states.put(ChannelStateEvent.ChannelState.BROADCAST_LANG, (v != null) ? Locale.forLanguageTag(v) : v);
+						break;
+					case "emote-only":
+						states.put(ChannelStateEvent.ChannelState.EMOTE, v.equals("1"));
+						break;
+					case "followers-only":
+						states.put(ChannelStateEvent.ChannelState.FOLLOWERS, Long.parseLong(v));
+						break;
+					case "r9k":
+						states.put(ChannelStateEvent.ChannelState.EMOTE, v.equals("1"));
+						break;
+					case "slow":
+						states.put(ChannelStateEvent.ChannelState.SLOW, Long.parseLong(v));
+						break;
+					case "subs-only":
+						states.put(ChannelStateEvent.ChannelState.EMOTE, v.equals("1"));
+						break;
+					default:
+						break;
+				}
+			});
 		}
+		event.getClient().getDispatcher().dispatch(new ChannelStateEvent(channel, states));
 	}
 
-	@EventSubscriber
-	public void onHostOffEvent(IRCMessageEvent event) {
-		if (event.getCommandType().equals("NOTICE")) {
-			Channel channel = event.getClient().getChannelEndpoint().getChannel(event.getChannelName().get());
-			String messageId = event.getTagValue("msg-id").get();
+	/**
+	 * Gets the channel of an irc message, see {@link EventHydration}
+	 *
+	 * @param event IRCMessageEvent
+	 * @return The channel.
+	 */
+	private Channel resolveChannel(IRCMessageEvent event) {
+		return resolveChannel(event.getChannelId(), event.getChannelName().orElse(null));
+	}
 
-			if(messageId.equals("host_off")) {
-				event.getClient().getDispatcher().dispatch(new HostOffEvent(channel));
-			}
+	/**
+	 * Gets a channel by id or name, see {@link EventHydration}
+	 *
+	 * @param channelId   The channel id, if known.
+	 * @param channelName The channel name.
+	 * @return The channel.
+	 */
+	private Channel resolveChannel(Long channelId, String channelName) {
+		if (getTwitchClient().getEventHydration() == EventHydration.TAGS) {
+			Channel channel = new Channel();
+			channel.setId(channelId);
+			channel.setName(channelName);
+			return channel;
 		}
+
+		return (channelId != null) ? getTwitchClient().getChannelEndpoint().getChannel(channelId) : getTwitchClient().getChannelEndpoint().getChannel(channelName);
 	}
 
-	@EventSubscriber
-	public void onChannelState(IRCMessageEvent event) {
-		if(event.getCommandType().equals("ROOMSTATE")) {
-			// getting Status on channel
-			Channel channel = event.getClient().getChannelEndpoint().getChannel(event.getChannelId());
-			Map<ChannelStateEvent.ChannelState, Object> states = new HashMap<ChannelStateEvent.ChannelState, Object>();
-			if (event.getTags().size() > 2) {
-				event.getTags().forEach((k, v) -> {
-					switch (k) {
-						case "broadcaster-lang":
-							states.put(ChannelStateEvent.ChannelState.BROADCAST_LANG, (v != null) ? Locale.forLanguageTag(v) : v);
-							break;
-						case "emote-only":
-							states.put(ChannelStateEvent.ChannelState.EMOTE, v.equals("1"));
-							break;
-						case "followers-only":
-							states.put(ChannelStateEvent.ChannelState.FOLLOWERS, Long.parseLong(v));
-							break;
-						case "r9k":
-							states.put(ChannelStateEvent.ChannelState.EMOTE, v.equals("1"));
-							break;
-						case "slow":
-							states.put(ChannelStateEvent.ChannelState.SLOW, Long.parseLong(v));
-							break;
-						case "subs-only":
-							states.put(ChannelStateEvent.ChannelState.EMOTE, v.equals("1"));
-							break;
-						default:
-							break;
-					}
-				});
-			}
-			event.getClient().getDispatcher().dispatch(new ChannelStateEvent(channel, states));
+	/**
+	 * Gets the author of an irc message, see {@link EventHydration}
+	 *
+	 * @param event IRCMessageEvent
+	 * @return The user.
+	 */
+	private User resolveUser(IRCMessageEvent event) {
+		return resolveUser(event.getUserId(), event.getTagValue("login").orElse(event.getClientName().orElse(null)), event.getTagValue("display-name").orElse(null));
+	}
+
+	/**
+	 * Gets a user by id or name, see {@link EventHydration}
+	 *
+	 * @param userId      The user id, if known.
+	 * @param userName    The user name.
+	 * @param displayName The display name, if known.
+	 * @return The user.
+	 */
+	private User resolveUser(Long userId, String userName, String displayName) {
+		if (getTwitchClient().getEventHydration() == EventHydration.TAGS) {
+			User user = new User();
+			user.setId(userId);
+			user.setName(userName);
+			user.setDisplayName((displayName != null) ? displayName : userName);
+			return user;
 		}
+
+		return (userId != null) ? getTwitchClient().getUserEndpoint().getUser(userId) : getTwitchClient().getUserEndpoint().getUserByUserName(userName);
 	}
 }
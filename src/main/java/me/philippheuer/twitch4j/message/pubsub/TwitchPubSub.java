@@ -13,8 +13,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +27,7 @@ import me.philippheuer.twitch4j.enums.Endpoints;
 import me.philippheuer.twitch4j.enums.PubSubTopics;
 import me.philippheuer.twitch4j.enums.Scope;
 import me.philippheuer.twitch4j.enums.TMIConnectionState;
+import me.philippheuer.twitch4j.message.ExponentialBackoff;
 import me.philippheuer.twitch4j.model.Channel;
 import me.philippheuer.util.RandomizeString;
 
@@ -32,9 +37,47 @@ import me.philippheuer.util.RandomizeString;
 public class TwitchPubSub {
 
 	/**
-	 * Timer for Scheduler Tasks
+	 * Time until a PONG has to be received, in milliseconds
 	 */
-	private final Timer timer = new Timer();
+	private static final long PONG_TIMEOUT = 10000;
+
+	/**
+	 * Scheduler for pings and reconnects
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread thread = new Thread(r, "Twitch PubSub Scheduler");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Reconnect Backoff
+	 */
+	@Setter(AccessLevel.NONE)
+	private final ExponentialBackoff backoff = new ExponentialBackoff();
+
+	/**
+	 * Scheduled Tasks (ping, reconnect)
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final List<ScheduledFuture<?>> tasks = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Time of the last PING
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private volatile long lastPing = 0;
+
+	/**
+	 * Time of the last PONG
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private volatile long lastPong = 0;
 
 	/**
 	 * Holds the API Instance
@@ -50,7 +93,7 @@ public class TwitchPubSub {
 	 * The connection state
 	 * Default: ({@link TMIConnectionState#DISCONNECTED})
 	 */
-	private TMIConnectionState connectionState = TMIConnectionState.DISCONNECTED;
+	private volatile TMIConnectionState connectionState = TMIConnectionState.DISCONNECTED;
 
 	/**
 	 * Random string to identify the response associated with this request. Using {@link RandomizeString} script
@@ -69,20 +112,20 @@ public class TwitchPubSub {
 	 */
 	public TwitchPubSub(TwitchClient twitchClient) {
 		this.twitchClient = twitchClient;
+	}
 
-		// Connect to Twitch PubSub Server
-		try {
-			webSocket = new WebSocketFactory().createSocket(Endpoints.PUBSUB.getURL());
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+	/**
+	 * Recreate the WebSocket
+	 */
+	private void createWebSocket() throws IOException {
+		webSocket = new WebSocketFactory().createSocket(Endpoints.PUBSUB.getURL());
 
 		// Register Listener
 		webSocket.addListener(new WebSocketAdapter() {
 			@Override
 			public void onConnected(WebSocket websocket, Map<String, List<String>> headers) throws Exception {
-				listenAll();
 				setConnectionState(TMIConnectionState.CONNECTED);
+				listenAll();
 
 				// Schedule Tasks
 				scheduleTasks();
@@ -113,6 +156,9 @@ public class TwitchPubSub {
 							 *  of issuing a PING command, it should reconnect to the server.
 							 */
 							log.debug("Recieved PONG Response from Twitch PubSub.");
+							lastPong = System.currentTimeMillis();
+							// the connection is healthy
+							backoff.reset();
 							break;
 						case "reconnect":
 							/*
@@ -202,16 +248,19 @@ public class TwitchPubSub {
 
 	/**
 	 * Connecto to PubSub
+	 * <p>
+	 * Failed attempts are retried using the {@link #getBackoff()}.
 	 */
-	public void connect() {
-		if (getConnectionState().equals(TMIConnectionState.DISCONNECTED)) {
+	public synchronized void connect() {
+		if (getConnectionState().equals(TMIConnectionState.DISCONNECTED) || getConnectionState().equals(TMIConnectionState.RECONNECTING)) {
 			try {
-				getWebSocket().connect();
 				setConnectionState(TMIConnectionState.CONNECTING);
+				createWebSocket();
+				getWebSocket().connect();
 			} catch (Exception ex) {
-				setConnectionState(TMIConnectionState.DISCONNECTED);
-
 				log.error("Connection to Twitch PubSub failed: [{}]", ex.getMessage());
+				closeWebSocket();
+				scheduleReconnect();
 			}
 		} else {
 			log.warn("Cannot connecting to Twitch PubSub: is already [{}].", getConnectionState().name().toUpperCase());
@@ -220,51 +269,75 @@ public class TwitchPubSub {
 
 	/**
 	 * Reconnecting to PubSub
+	 * <p>
+	 * The connection is closed right away, the next attempt is scheduled using the backoff.
+	 */
+	public synchronized void reconnect() {
+		cancelTasks();
+		closeWebSocket();
+		scheduleReconnect();
+	}
+
+	/**
+	 * Schedules the next connection attempt
 	 */
-	public void reconnect() {
+	private void scheduleReconnect() {
 		setConnectionState(TMIConnectionState.RECONNECTING);
-		disconnect(false);
-		scheduleTasks();
-		listenAll();
+
+		long delay = backoff.nextDelay();
+		log.info("Reconnecting to Twitch PubSub in {} ms (Attempt {}).", delay, backoff.getAttempts());
+		tasks.add(scheduler.schedule(this::connect, delay, TimeUnit.MILLISECONDS));
 	}
 
 	/**
 	 * schedule tasks for pinging WebSocket server.
 	 */
 	private void scheduleTasks() {
-		timer.scheduleAtFixedRate(new TimerTask() {
-			@Override
-			public void run() {
-				// Prepare JSON Ping Message
-				try {
-					ObjectMapper mapper = new ObjectMapper();
-					ObjectNode objectNode = mapper.createObjectNode();
-					objectNode.put("type", "PING");
-
-					webSocket.sendText(mapper.writerWithDefaultPrettyPrinter().writeValueAsString(objectNode));
-
-					log.debug("Send Ping to Twitch PubSub. (Keep-Connection-Alive)");
-				} catch (Exception ex) {
-					log.error("Failed to Ping Twitch PubSub. ({})", ex.getMessage());
-					reconnect();
-				}
+		tasks.add(scheduler.scheduleAtFixedRate(() -> {
+			tasks.removeIf(ScheduledFuture::isDone);
 
+			// Prepare JSON Ping Message
+			try {
+				ObjectMapper mapper = new ObjectMapper();
+				ObjectNode objectNode = mapper.createObjectNode();
+				objectNode.put("type", "PING");
+
+				lastPing = System.currentTimeMillis();
+				webSocket.sendText(mapper.writerWithDefaultPrettyPrinter().writeValueAsString(objectNode));
+
+				log.debug("Send Ping to Twitch PubSub. (Keep-Connection-Alive)");
+			} catch (Exception ex) {
+				log.error("Failed to Ping Twitch PubSub. ({})", ex.getMessage());
+				reconnect();
+				return;
 			}
-		}, 7000, 282000);
+
+			// Health Check - a PONG has to be received within 10 seconds
+			tasks.add(scheduler.schedule(() -> {
+				if (lastPong < lastPing && getConnectionState().equals(TMIConnectionState.CONNECTED)) {
+					log.warn("Twitch PubSub did not answer the PING! Reconnecting ...");
+					reconnect();
+				}
+			}, PONG_TIMEOUT, TimeUnit.MILLISECONDS));
+		}, 7000, 282000, TimeUnit.MILLISECONDS));
 	}
 
 	/**
 	 * Disconnect from PubSub
 	 * @param forceDisconnect forcing disconnection - if it false will reconnecting automatically
 	 */
-	public void disconnect(boolean forceDisconnect) {
+	public synchronized void disconnect(boolean forceDisconnect) {
 		// Forced Disconnect?
-		if (forceDisconnect) {
-			setConnectionState(TMIConnectionState.DISCONNECTING);
+		if (!forceDisconnect) {
+			reconnect();
+			return;
 		}
+
 		unlistenAll();
-		webSocket.disconnect();
+		setConnectionState(TMIConnectionState.DISCONNECTING);
 		cancelTasks();
+		closeWebSocket();
+		setConnectionState(TMIConnectionState.DISCONNECTED);
 	}
 
 	/**
@@ -278,8 +351,15 @@ public class TwitchPubSub {
 	 * Purge the current tasks to prepare for a reconnect.
 	 */
 	private void cancelTasks() {
-		timer.cancel();
-		timer.purge();
+		tasks.forEach(task -> task.cancel(false));
+		tasks.clear();
+	}
+
+	private void closeWebSocket() {
+		if (webSocket != null) {
+			webSocket.clearListeners();
+			webSocket.disconnect();
+		}
 	}
 
 	/**
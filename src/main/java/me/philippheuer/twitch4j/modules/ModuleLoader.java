@@ -14,6 +14,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 import java.util.stream.Collectors;
@@ -24,6 +25,7 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import me.philippheuer.twitch4j.TwitchClient;
+import me.philippheuer.twitch4j.index.ComponentRegistry;
 import me.philippheuer.twitch4j.modules.event.ModuleDisabledEvent;
 import me.philippheuer.twitch4j.modules.event.ModuleEnabledEvent;
 import org.apache.commons.io.filefilter.FileFilterUtils;
@@ -67,7 +69,8 @@ public class ModuleLoader {
 		if (reloadAll) modules.clear();
 		classModules.forEach(clazz -> {
 			try {
-				IModule module = clazz.newInstance();
+				Supplier<? extends IModule> factory = ComponentRegistry.getInstance().getFactory(clazz);
+				IModule module = (factory != null) ? factory.get() : clazz.newInstance();
 				ModulePair modulePair = new ModulePair(module, false);
 				log.info("Loading module {}", module.getName(), module.getVersion(), module.getAuthor());
 				if (Configuration.AUTOMATICALLY_ENABLE_MODULES) {
@@ -172,7 +175,14 @@ public class ModuleLoader {
 				method.setAccessible(true);
 				method.invoke(loader, url);
 
-				if (moduleClasses.size() == 0) {
+				// modules of the jar found by the component index
+				List<Class<? extends IModule>> indexedModules = ComponentRegistry.reload().getModules().stream()
+						.filter(clazz -> clazz.getProtectionDomain().getCodeSource() != null && url.equals(clazz.getProtectionDomain().getCodeSource().getLocation()))
+						.collect(Collectors.toList());
+
+				if (moduleClasses.size() == 0 && indexedModules.size() > 0) {
+					indexedModules.forEach(ModuleLoader::addModuleClass);
+				} else if (moduleClasses.size() == 0) {
 					for (String clazz : listClasses(jar)) {
 						try {
 							Class classInstance = loadClass(clazz);
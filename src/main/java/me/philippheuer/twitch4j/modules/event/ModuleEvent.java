@@ -3,6 +3,7 @@ package me.philippheuer.twitch4j.modules.event;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import me.philippheuer.twitch4j.enums.EventPriority;
 import me.philippheuer.twitch4j.events.Event;
 import me.philippheuer.twitch4j.modules.IModule;
 
@@ -11,4 +12,9 @@ import me.philippheuer.twitch4j.modules.IModule;
 @EqualsAndHashCode(callSuper = false)
 class ModuleEvent extends Event {
 	private final IModule module;
+
+	@Override
+	public EventPriority getPriority() {
+		return EventPriority.SYSTEM;
+	}
 }
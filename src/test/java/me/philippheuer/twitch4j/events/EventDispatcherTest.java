@@ -0,0 +1,507 @@
+package me.philippheuer.twitch4j.events;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import junit.framework.TestCase;
+import me.philippheuer.twitch4j.enums.DispatchMode;
+import me.philippheuer.twitch4j.enums.EventPriority;
+import me.philippheuer.twitch4j.enums.SubscriberMode;
+import me.philippheuer.twitch4j.events.dispatch.ListenerRegistration;
+import me.philippheuer.twitch4j.events.event.irc.IRCMessageEvent;
+import me.philippheuer.twitch4j.events.event.irc.UserBanEvent;
+import me.philippheuer.twitch4j.events.event.system.ListenerQuarantinedEvent;
+import me.philippheuer.util.test.UnitTestCategory;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTestCategory.class)
+public class EventDispatcherTest extends TestCase {
+
+	public static class TestEvent extends Event {
+	}
+
+	public static class KeyedTestEvent extends Event {
+
+		private final String key;
+
+		private final int sequence;
+
+		public KeyedTestEvent(String key, int sequence) {
+			this.key = key;
+			this.sequence = sequence;
+		}
+
+		@Override
+		public Object getDispatchKey() {
+			return key;
+		}
+
+		@Override
+		public String getSourceChannel() {
+			return key;
+		}
+
+		@Override
+		public Object getCoalescingKey() {
+			return key;
+		}
+	}
+
+	public static class SystemTestEvent extends Event {
+
+		@Override
+		public EventPriority getPriority() {
+			return EventPriority.SYSTEM;
+		}
+	}
+
+	public static class TestListener {
+
+		private final CountDownLatch latch;
+
+		public TestListener(CountDownLatch latch) {
+			this.latch = latch;
+		}
+
+		@EventSubscriber
+		public void onEvent(Event event) {
+			latch.countDown();
+		}
+
+		@EventSubscriber
+		public void onTestEvent(TestEvent event) {
+			latch.countDown();
+		}
+	}
+
+	public static class StaticTestListener {
+
+		static CountDownLatch latch;
+
+		@EventSubscriber
+		public static void onTestEvent(TestEvent event) {
+			latch.countDown();
+		}
+	}
+
+	static class PackagePrivateTestListener {
+
+		private final CountDownLatch latch;
+
+		PackagePrivateTestListener(CountDownLatch latch) {
+			this.latch = latch;
+		}
+
+		@EventSubscriber
+		public void onTestEvent(TestEvent event) {
+			latch.countDown();
+		}
+	}
+
+	public static class BatchTestListener {
+
+		private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+		private final CountDownLatch latch;
+
+		public BatchTestListener(CountDownLatch latch) {
+			this.latch = latch;
+		}
+
+		@EventSubscriber(mode = SubscriberMode.INLINE, batchSize = 2, maxDelayMs = 50)
+		public void onTestEvents(List<TestEvent> events) {
+			batchSizes.add(events.size());
+			latch.countDown();
+		}
+	}
+
+	public static class CoalescingTestListener {
+
+		private final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+
+		private final CountDownLatch latch;
+
+		public CoalescingTestListener(CountDownLatch latch) {
+			this.latch = latch;
+		}
+
+		@EventSubscriber(mode = SubscriberMode.INLINE, coalesceMs = 50)
+		public void onKeyedTestEvent(KeyedTestEvent event) {
+			received.add(event.sequence);
+			latch.countDown();
+		}
+	}
+
+	/**
+	 * Test the generated invokers, static listeners and the method handle fallback
+	 */
+	@Test
+	public void testInvokers() throws Exception {
+		EventDispatcher dispatcher = new EventDispatcher(null);
+		CountDownLatch latch = new CountDownLatch(4);
+		StaticTestListener.latch = latch;
+
+		dispatcher.registerListener(new TestListener(latch));
+		dispatcher.registerListener(StaticTestListener.class);
+		dispatcher.registerListener(new PackagePrivateTestListener(latch));
+
+		dispatcher.dispatch(new TestEvent());
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Test that the dispatch plan is resolved from the event hierarchy and invalidated on changes
+	 */
+	@Test
+	public void testDispatchPlan() throws Exception {
+		EventDispatcher dispatcher = new EventDispatcher(null);
+		CountDownLatch latch = new CountDownLatch(2);
+		TestListener listener = new TestListener(latch);
+
+		dispatcher.registerListener(listener);
+		assertEquals(2, dispatcher.getDispatchPlan(TestEvent.class).getHandles().length);
+
+		dispatcher.dispatch(new TestEvent());
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+		dispatcher.unregisterListener(listener);
+		assertEquals(0, dispatcher.getDispatchPlan(TestEvent.class).getHandles().length);
+	}
+
+	/**
+	 * Test that a temporary listener receives exactly one event, and registrations unregister once
+	 */
+	@Test
+	public void testTemporaryListener() throws Exception {
+		EventDispatcher dispatcher = new EventDispatcher(null);
+		AtomicInteger invocations = new AtomicInteger();
+		ListenerRegistration registration = dispatcher.registerTemporaryListener((IListener<TestEvent>) event -> invocations.incrementAndGet());
+
+		CountDownLatch latch = new CountDownLatch(10);
+		dispatcher.registerListener((IListener<TestEvent>) event -> latch.countDown());
+		for (int i = 0; i < 10; i++) {
+			dispatcher.dispatch(new TestEvent());
+		}
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertEquals(1, invocations.get());
+		assertFalse(registration.isActive());
+		assertFalse(registration.unregister());
+
+		ListenerRegistration other = dispatcher.registerListener(new TestListener(latch));
+		assertTrue(other.unregister());
+		assertEquals(1, dispatcher.getDispatchPlan(TestEvent.class).getHandles().length);
+	}
+
+	/**
+	 * Test that batch listeners receive full batches right away, and the remaining events after the delay
+	 */
+	@Test
+	public void testBatchListener() throws Exception {
+		EventDispatcher dispatcher = new EventDispatcher(null);
+		CountDownLatch latch = new CountDownLatch(3);
+		BatchTestListener listener = new BatchTestListener(latch);
+		dispatcher.registerListener(listener);
+
+		for (int i = 0; i < 5; i++) {
+			dispatcher.dispatch(new TestEvent());
+		}
+		assertEquals(Arrays.asList(2, 2), listener.batchSizes);
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertEquals(Arrays.asList(2, 2, 1), listener.batchSizes);
+	}
+
+	/**
+	 * Test that coalescing listeners only receive the latest event of each key
+	 */
+	@Test
+	public void testCoalescingListener() throws Exception {
+		EventDispatcher dispatcher = new EventDispatcher(null);
+		CountDownLatch latch = new CountDownLatch(2);
+		CoalescingTestListener listener = new CoalescingTestListener(latch);
+		dispatcher.registerListener(listener);
+
+		for (int i = 0; i < 5; i++) {
+			dispatcher.dispatch(new KeyedTestEvent("a", i));
+		}
+		dispatcher.dispatch(new KeyedTestEvent("b", 10));
+		assertTrue(listener.received.isEmpty());
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		Thread.sleep(100);
+		assertEquals(2, listener.received.size());
+		assertTrue(listener.received.containsAll(Arrays.asList(4, 10)));
+	}
+
+	/**
+	 * Test that delayed deliveries are measured by the watchdog, and dropped once the listener is unregistered
+	 */
+	@Test
+	public void testDelayedDelivery() throws Exception {
+		EventDispatcher dispatcher = new EventDispatcher(null);
+		CountDownLatch batchLatch = new CountDownLatch(1);
+		ListenerRegistration batch = dispatcher.registerListener(new BatchTestListener(batchLatch));
+		CoalescingTestListener coalescing = new CoalescingTestListener(new CountDownLatch(1));
+		ListenerRegistration coalescingRegistration = dispatcher.registerListener(coalescing);
+
+		dispatcher.dispatch(new TestEvent());
+		dispatcher.dispatch(new KeyedTestEvent("a", 1));
+		coalescingRegistration.unregister();
+		assertTrue(batchLatch.await(5, TimeUnit.SECONDS));
+		Thread.sleep(100);
+		// the dispatched event and the delayed batch
+		assertEquals(2, batch.getHandles().get(0).getStats().getInvocations());
+		assertTrue(coalescing.received.isEmpty());
+	}
+
+	/**
+	 * Test that temporary batch and coalescing listeners receive their single event
+	 */
+	@Test
+	public void testTemporaryDelayedListener() throws Exception {
+		EventDispatcher dispatcher = new EventDispatcher(null);
+		BatchTestListener batch = new BatchTestListener(new CountDownLatch(1));
+		CoalescingTestListener coalescing = new CoalescingTestListener(new CountDownLatch(1));
+		dispatcher.registerTemporaryListener(batch);
+		dispatcher.registerTemporaryListener(coalescing);
+
+		dispatcher.dispatch(new TestEvent());
+		dispatcher.dispatch(new TestEvent());
+		dispatcher.dispatch(new KeyedTestEvent("a", 1));
+		dispatcher.dispatch(new KeyedTestEvent("a", 2));
+		Thread.sleep(100);
+		assertEquals(Collections.singletonList(1), batch.batchSizes);
+		assertEquals(Collections.singletonList(1), coalescing.received);
+	}
+
+	/**
+	 * Test that a listener exceeding the soft deadline is quarantined and invoked on the quarantine executor
+	 */
+	@Test
+	public void testQuarantine() throws Exception {
+		EventDispatcher dispatcher = new EventDispatcher(null);
+		dispatcher.getWatchdog().setSoftDeadlineMs(1);
+		dispatcher.getWatchdog().setQuarantineThreshold(2);
+
+		List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch quarantined = new CountDownLatch(1);
+		CountDownLatch invoked = new CountDownLatch(3);
+		dispatcher.registerListener(ListenerQuarantinedEvent.class, event -> quarantined.countDown(), SubscriberMode.INLINE);
+		ListenerRegistration registration = dispatcher.registerListener(TestEvent.class, event -> {
+			threads.add(Thread.currentThread());
+			invoked.countDown();
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}, SubscriberMode.INLINE);
+
+		dispatcher.dispatch(new TestEvent());
+		dispatcher.dispatch(new TestEvent());
+		assertTrue(quarantined.await(5, TimeUnit.SECONDS));
+		assertTrue(registration.getHandles().get(0).isQuarantined());
+
+		dispatcher.dispatch(new TestEvent());
+		assertTrue(invoked.await(5, TimeUnit.SECONDS));
+		assertEquals(Thread.currentThread(), threads.get(1));
+		assertNotSame(Thread.currentThread(), threads.get(2));
+	}
+
+	/**
+	 * Test that quarantined listeners receive their events in order, and exempt listeners are never quarantined
+	 */
+	@Test
+	public void testQuarantineOrder() throws Exception {
+		EventDispatcher dispatcher = new EventDispatcher(null);
+		List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch latch = new CountDownLatch(200);
+		ListenerRegistration registration = dispatcher.registerListener(KeyedTestEvent.class, event -> {
+			received.add(event.sequence);
+			latch.countDown();
+		}, SubscriberMode.INLINE);
+		ListenerRegistration exempt = dispatcher.registerListener(KeyedTestEvent.class, event -> {}, SubscriberMode.INLINE).exemptFromQuarantine();
+
+		dispatcher.getWatchdog().quarantine(registration.getHandles().get(0), "test");
+		dispatcher.getWatchdog().quarantine(exempt.getHandles().get(0), "test");
+		assertTrue(registration.getHandles().get(0).isQuarantined());
+		assertFalse(exempt.getHandles().get(0).isQuarantined());
+
+		for (int i = 0; i < 200; i++) {
+			dispatcher.dispatch(new KeyedTestEvent("channel", i));
+		}
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		for (int i = 0; i < 200; i++) {
+			assertEquals(Integer.valueOf(i), received.get(i));
+		}
+	}
+
+	/**
+	 * Test that inline listeners are invoked on the dispatching thread, before the asynchronous listeners
+	 */
+	@Test
+	public void testInlineListener() throws Exception {
+		EventDispatcher dispatcher = new EventDispatcher(null);
+		CountDownLatch latch = new CountDownLatch(1);
+		List<Thread> inlineThreads = new ArrayList<>();
+		dispatcher.registerListener(new TestListener(latch));
+		dispatcher.registerListener((IListener<TestEvent>) event -> inlineThreads.add(Thread.currentThread()), SubscriberMode.INLINE);
+
+		assertEquals(1, dispatcher.getDispatchPlan(TestEvent.class).getInlineHandles().length);
+		assertEquals(2, dispatcher.getDispatchPlan(TestEvent.class).getAsyncHandles().length);
+
+		dispatcher.dispatch(new TestEvent());
+		assertEquals(Collections.singletonList(Thread.currentThread()), inlineThreads);
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Test that channel-scoped listeners only receive the events of their channel
+	 */
+	@Test
+	public void testChannelListener() throws Exception {
+		EventDispatcher dispatcher = new EventDispatcher(null);
+		List<String> received = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch latch = new CountDownLatch(3);
+		IListener<KeyedTestEvent> listener = event -> {
+			received.add(event.key);
+			latch.countDown();
+		};
+		dispatcher.registerListener(listener, "a");
+
+		assertNull(dispatcher.getDispatchPlan("b", KeyedTestEvent.class));
+		assertEquals(0, dispatcher.getDispatchPlan(KeyedTestEvent.class).getHandles().length);
+
+		dispatcher.registerListener((IListener<KeyedTestEvent>) event -> latch.countDown());
+		dispatcher.dispatch(new KeyedTestEvent("b", 0));
+		dispatcher.dispatch(new KeyedTestEvent("a", 0));
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertEquals(Collections.singletonList("a"), received);
+
+		dispatcher.unregisterListener(listener);
+		assertNull(dispatcher.getDispatchPlan("a", KeyedTestEvent.class));
+	}
+
+	/**
+	 * Test that events with the same dispatch key are delivered in order
+	 */
+	@Test
+	public void testKeyedDispatch() throws Exception {
+		assertOrderedDispatch(DispatchMode.KEYED);
+	}
+
+	/**
+	 * Test that the ring buffer delivers all events, and events with the same dispatch key in order
+	 */
+	@Test
+	public void testRingBufferDispatch() throws Exception {
+		assertOrderedDispatch(DispatchMode.RING_BUFFER);
+	}
+
+	private void assertOrderedDispatch(DispatchMode dispatchMode) throws Exception {
+		EventDispatcher dispatcher = new EventDispatcher(null);
+		dispatcher.setRingBufferSize(64);
+		dispatcher.setDispatchMode(dispatchMode, 4);
+
+		int events = 1000;
+		CountDownLatch latch = new CountDownLatch(events * 2);
+		Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+		dispatcher.registerListener((IListener<KeyedTestEvent>) event -> {
+			received.computeIfAbsent(event.key, k -> Collections.synchronizedList(new ArrayList<>())).add(event.sequence);
+			latch.countDown();
+		});
+
+		for (int i = 0; i < events; i++) {
+			dispatcher.dispatch(new KeyedTestEvent("a", i));
+			dispatcher.dispatch(new KeyedTestEvent("b", i));
+		}
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+		assertEquals(2, received.size());
+		for (List<Integer> sequences : received.values()) {
+			for (int i = 0; i < events; i++) {
+				assertEquals(i, sequences.get(i).intValue());
+			}
+		}
+	}
+
+	/**
+	 * Test that system events are delivered while all workers are busy, and chat events are delivered in order afterwards
+	 */
+	@Test
+	public void testPriorityDispatch() throws Exception {
+		EventDispatcher dispatcher = new EventDispatcher(null);
+		dispatcher.setDispatchMode(DispatchMode.PRIORITY, 1);
+
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch chatLatch = new CountDownLatch(4);
+		CountDownLatch systemLatch = new CountDownLatch(1);
+		List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+		dispatcher.registerListener((IListener<KeyedTestEvent>) event -> {
+			blocked.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			received.add(event.sequence);
+			chatLatch.countDown();
+		});
+		dispatcher.registerListener((IListener<SystemTestEvent>) event -> systemLatch.countDown());
+
+		dispatcher.dispatch(new KeyedTestEvent("a", 0));
+		assertTrue(blocked.await(5, TimeUnit.SECONDS));
+		for (int i = 1; i < 4; i++) {
+			dispatcher.dispatch(new KeyedTestEvent((i % 2 == 0) ? "a" : "b", i));
+		}
+		dispatcher.dispatch(new SystemTestEvent());
+
+		// the chat worker is blocked, the reserved worker delivers the system event
+		assertTrue(systemLatch.await(5, TimeUnit.SECONDS));
+		assertEquals(4, chatLatch.getCount());
+
+		release.countDown();
+		assertTrue(chatLatch.await(5, TimeUnit.SECONDS));
+		assertEquals(Arrays.asList(0, 1, 2, 3), received);
+	}
+
+	/**
+	 * Test that a ban is decoded while a flood of chat messages is still queued
+	 */
+	@Test
+	public void testModerationDuringChatFlood() throws Exception {
+		EventDispatcher dispatcher = new EventDispatcher(null);
+		dispatcher.setDispatchMode(DispatchMode.PRIORITY, 2);
+
+		AtomicInteger decodedMessages = new AtomicInteger();
+		CountDownLatch banned = new CountDownLatch(1);
+		// decodes the raw irc messages like the IRCEventListener
+		dispatcher.registerListener((IListener<IRCMessageEvent>) event -> {
+			if (event.getCommandType().equals("PRIVMSG")) {
+				try {
+					Thread.sleep(5);
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				decodedMessages.incrementAndGet();
+			} else if (event.getCommandType().equals("CLEARCHAT")) {
+				dispatcher.dispatch(new UserBanEvent(null, null, event.getMessage().orElse(null)));
+			}
+		});
+		dispatcher.registerListener((IListener<UserBanEvent>) event -> banned.countDown());
+
+		for (int i = 0; i < 1000; i++) {
+			dispatcher.dispatch(new IRCMessageEvent("@user-id=1 :viewer!viewer@viewer.tmi.twitch.tv PRIVMSG #twitch4j :spam " + i));
+		}
+		dispatcher.dispatch(new IRCMessageEvent("@room-id=1;target-user-id=1 :tmi.twitch.tv CLEARCHAT #twitch4j :viewer"));
+
+		assertTrue(banned.await(500, TimeUnit.MILLISECONDS));
+		assertTrue(decodedMessages.get() < 1000);
+	}
+}
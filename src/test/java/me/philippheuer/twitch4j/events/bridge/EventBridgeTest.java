@@ -0,0 +1,186 @@
+package me.philippheuer.twitch4j.events.bridge;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import junit.framework.TestCase;
+import me.philippheuer.twitch4j.enums.SubscriberMode;
+import me.philippheuer.twitch4j.events.EventDispatcher;
+import me.philippheuer.twitch4j.events.event.irc.ChannelMessageEvent;
+import me.philippheuer.twitch4j.message.commands.CommandPermission;
+import me.philippheuer.twitch4j.model.Channel;
+import me.philippheuer.twitch4j.model.User;
+import me.philippheuer.util.test.UnitTestCategory;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTestCategory.class)
+public class EventBridgeTest extends TestCase {
+
+	private static final InetAddress LOOPBACK = InetAddress.getLoopbackAddress();
+
+	private static ChannelMessageEvent createMessage() {
+		Channel channel = new Channel();
+		channel.setId(1L);
+		channel.setName("twitch4j");
+		User user = new User();
+		user.setId(2L);
+		user.setName("viewer");
+		return new ChannelMessageEvent(channel, user, "hello", EnumSet.of(CommandPermission.EVERYONE, CommandPermission.BROADCASTER));
+	}
+
+	private static void awaitConnections(TcpEventTransport transport, int count) throws InterruptedException {
+		for (int i = 0; i < 100 && transport.getConnectionCount() != count; i++) {
+			Thread.sleep(20);
+		}
+	}
+
+	@Test
+	public void testLoopbackBridge() throws Exception {
+		TcpEventTransport ingestionTransport = new TcpEventTransport(new InetSocketAddress(LOOPBACK, 0), Collections.emptyList(), "secret");
+		EventDispatcher ingestion = new EventDispatcher(null);
+		EventDispatcher processing = new EventDispatcher(null);
+
+		BlockingQueue<ChannelMessageEvent> ingested = new ArrayBlockingQueue<>(10);
+		BlockingQueue<ChannelMessageEvent> processed = new ArrayBlockingQueue<>(10);
+		ingestion.registerListener(ChannelMessageEvent.class, ingested::add, SubscriberMode.INLINE);
+		processing.registerListener(ChannelMessageEvent.class, processed::add, SubscriberMode.INLINE);
+
+		try (EventBridge ingestionBridge = new EventBridge(ingestion, ingestionTransport).addCodecs(EventCodecs.getChatCodecs())) {
+			ingestionBridge.start();
+			TcpEventTransport processingTransport = new TcpEventTransport(null, Collections.singletonList(new InetSocketAddress(LOOPBACK, ingestionTransport.getLocalPort())), "secret");
+			try (EventBridge processingBridge = new EventBridge(processing, processingTransport).addCodecs(EventCodecs.getChatCodecs())) {
+				processingBridge.start();
+				awaitConnections(ingestionTransport, 1);
+
+				ingestion.dispatch(createMessage());
+
+				ChannelMessageEvent received = processed.poll(5, TimeUnit.SECONDS);
+				assertNotNull(received);
+				assertEquals("twitch4j", received.getChannel().getName());
+				assertEquals(Long.valueOf(2), received.getUser().getId());
+				assertEquals("hello", received.getMessage());
+				// permissions are not trusted
+				assertEquals(EnumSet.of(CommandPermission.EVERYONE), received.getPermissions());
+				assertEquals(1, processingBridge.getReceivedEvents().get());
+
+				// received events are not forwarded back
+				assertEquals(0, processingBridge.getForwardedEvents().get());
+				assertNotNull(ingested.poll());
+				assertNull(ingested.poll(200, TimeUnit.MILLISECONDS));
+			}
+		}
+	}
+
+	@Test
+	public void testWrongSecret() throws Exception {
+		TcpEventTransport server = new TcpEventTransport(new InetSocketAddress(LOOPBACK, 0), Collections.emptyList(), "secret");
+		try (EventBridge serverBridge = new EventBridge(new EventDispatcher(null), server)) {
+			serverBridge.start();
+			TcpEventTransport client = new TcpEventTransport(null, Collections.singletonList(new InetSocketAddress(LOOPBACK, server.getLocalPort())), "guess");
+			try (EventBridge clientBridge = new EventBridge(new EventDispatcher(null), client)) {
+				clientBridge.start();
+				Thread.sleep(300);
+				assertEquals(0, server.getConnectionCount());
+				assertEquals(0, client.getConnectionCount());
+			}
+		}
+	}
+
+	@Test
+	public void testMutualPeersAreConnectedOnce() throws Exception {
+		int portA = reservePort();
+		int portB = reservePort();
+		TcpEventTransport transportA = new TcpEventTransport(new InetSocketAddress(LOOPBACK, portA), Collections.singletonList(new InetSocketAddress(LOOPBACK, portB)), "secret");
+		TcpEventTransport transportB = new TcpEventTransport(new InetSocketAddress(LOOPBACK, portB), Collections.singletonList(new InetSocketAddress(LOOPBACK, portA)), "secret");
+		EventDispatcher dispatcherA = new EventDispatcher(null);
+		EventDispatcher dispatcherB = new EventDispatcher(null);
+		BlockingQueue<ChannelMessageEvent> received = new ArrayBlockingQueue<>(10);
+		dispatcherB.registerListener(ChannelMessageEvent.class, received::add, SubscriberMode.INLINE);
+
+		try (EventBridge bridgeA = new EventBridge(dispatcherA, transportA).addCodecs(EventCodecs.getChatCodecs());
+			 EventBridge bridgeB = new EventBridge(dispatcherB, transportB).addCodecs(EventCodecs.getChatCodecs())) {
+			bridgeA.start();
+			bridgeB.start();
+
+			// wait for the retries of the connection attempts made before the other node was listening
+			Thread.sleep(1500);
+			awaitConnections(transportA, 1);
+			awaitConnections(transportB, 1);
+			assertEquals(1, transportA.getConnectionCount());
+			assertEquals(1, transportB.getConnectionCount());
+
+			dispatcherA.dispatch(createMessage());
+			assertNotNull(received.poll(5, TimeUnit.SECONDS));
+			assertNull(received.poll(300, TimeUnit.MILLISECONDS));
+		}
+	}
+
+	/**
+	 * A client without the secret relays the handshake between two nodes, but can't inject frames into the connection
+	 */
+	@Test
+	public void testRelayedHandshakeCantInjectFrames() throws Exception {
+		BlockingQueue<byte[]> received = new ArrayBlockingQueue<>(10);
+		try (ServerSocket attacker = new ServerSocket(0, 0, LOOPBACK);
+			 TcpEventTransport transportA = new TcpEventTransport(null, Collections.singletonList(new InetSocketAddress(LOOPBACK, attacker.getLocalPort())), "secret");
+			 TcpEventTransport transportB = new TcpEventTransport(new InetSocketAddress(LOOPBACK, 0), Collections.emptyList(), "secret")) {
+			transportB.start(received::add);
+			transportA.start(frame -> {});
+
+			try (Socket socketA = attacker.accept();
+				 Socket socketB = new Socket(LOOPBACK, transportB.getLocalPort())) {
+				DataInputStream inA = new DataInputStream(socketA.getInputStream());
+				DataOutputStream outA = new DataOutputStream(socketA.getOutputStream());
+				DataInputStream inB = new DataInputStream(socketB.getInputStream());
+				DataOutputStream outB = new DataOutputStream(socketB.getOutputStream());
+
+				// connect to B as A, using the challenge of A
+				long idA = inA.readLong();
+				byte[] nonceA = new byte[16];
+				inA.readFully(nonceA);
+				outB.writeLong(idA);
+				outB.write(nonceA);
+
+				// pass the challenge and proof of B to A, and the proof of A back to B
+				long idB = inB.readLong();
+				byte[] nonceB = new byte[16];
+				inB.readFully(nonceB);
+				byte[] proofB = new byte[32];
+				inB.readFully(proofB);
+				outA.writeLong(idB);
+				outA.write(nonceB);
+				outA.write(proofB);
+				byte[] proofA = new byte[32];
+				inA.readFully(proofA);
+				outB.write(proofA);
+
+				byte[] frame = "INJECTED".getBytes(StandardCharsets.UTF_8);
+				outB.writeInt(frame.length);
+				outB.write(frame);
+				outB.write(new byte[32]);
+				outB.flush();
+
+				assertNull(received.poll(500, TimeUnit.MILLISECONDS));
+				awaitConnections(transportB, 0);
+				assertEquals(0, transportB.getConnectionCount());
+			}
+		}
+	}
+
+	private static int reservePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0, 0, LOOPBACK)) {
+			return socket.getLocalPort();
+		}
+	}
+}
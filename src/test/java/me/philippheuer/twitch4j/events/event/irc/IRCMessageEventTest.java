@@ -0,0 +1,98 @@
+package me.philippheuer.twitch4j.events.event.irc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import junit.framework.TestCase;
+import me.philippheuer.twitch4j.message.commands.CommandPermission;
+import me.philippheuer.twitch4j.message.irc.IRCParser;
+import me.philippheuer.util.test.UnitTestCategory;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTestCategory.class)
+public class IRCMessageEventTest extends TestCase {
+
+	/**
+	 * Test parsing of a channel message with tags
+	 */
+	@Test
+	public void testChannelMessage() {
+		IRCMessageEvent event = new IRCMessageEvent("@badges=broadcaster/1,subscriber/12;color=#0D4200;display-name=Twitch4J;mod=0;room-id=149223493;subscriber=1;user-id=149223493 :twitch4j!twitch4j@twitch4j.tmi.twitch.tv PRIVMSG #twitch4j :Hello World");
+
+		assertTrue(event.isValid());
+		assertEquals("PRIVMSG", event.getCommandType());
+		assertEquals("twitch4j", event.getClientName().get());
+		assertEquals("twitch4j", event.getChannelName().get());
+		assertEquals("Hello World", event.getMessage().get());
+		assertEquals(":Hello World", event.getPayload().get());
+		assertEquals(Long.valueOf(149223493L), event.getChannelId());
+		assertEquals(Long.valueOf(149223493L), event.getUserId());
+		assertEquals("#0D4200", event.getTagValue("color").get());
+		assertEquals("12", event.getBadges().get("subscriber"));
+		assertEquals(7, event.getTags().size());
+		assertTrue(event.getClientPermissions().contains(CommandPermission.BROADCASTER));
+		assertTrue(event.getClientPermissions().contains(CommandPermission.SUBSCRIBER));
+		assertFalse(event.getTagValue("missing").isPresent());
+	}
+
+	/**
+	 * Test parsing of raw tag and badge lists, escaped whitespaces in badges are replaced
+	 */
+	@Test
+	public void testRawLists() {
+		IRCMessageEvent event = new IRCMessageEvent("@badges=founder/0\\sx,bits/100 :twitch4j!twitch4j@twitch4j.tmi.twitch.tv PRIVMSG #twitch4j :Hello World");
+		assertEquals("0 x", event.getBadges().get("founder"));
+		assertEquals("100", event.getBadges().get("bits"));
+
+		Map<?, ?> badges = event.parseBadges("founder/0\\sx,bits/100");
+		assertEquals(2, badges.size());
+		assertEquals("0 x", badges.get("founder"));
+		assertEquals("100", badges.get("bits"));
+
+		Map<?, ?> tags = event.parseTags("color=#0D4200;mod=0;emotes=");
+		assertEquals(3, tags.size());
+		assertEquals("#0D4200", tags.get("color"));
+		assertNull(tags.get("emotes"));
+		assertTrue(event.parseTags(" ").isEmpty());
+	}
+
+	/**
+	 * Test parsing of whispers, mode changes and server messages
+	 */
+	@Test
+	public void testOtherCommands() {
+		IRCMessageEvent whisper = new IRCMessageEvent("@display-name=Twitch4J;user-id=149223493 :twitch4j!twitch4j@twitch4j.tmi.twitch.tv WHISPER somebot :psst");
+		assertEquals("WHISPER", whisper.getCommandType());
+		assertEquals("somebot", whisper.getChannelName().get());
+		assertEquals("psst", whisper.getMessage().get());
+
+		IRCMessageEvent mode = new IRCMessageEvent(":jtv MODE #twitch4j +o somebot");
+		assertEquals("MODE", mode.getCommandType());
+		assertFalse(mode.getClientName().isPresent());
+		assertEquals("+o somebot", mode.getPayload().get());
+
+		IRCMessageEvent roomState = new IRCMessageEvent("@emote-only=0;room-id=149223493;slow=0 :tmi.twitch.tv ROOMSTATE #twitch4j");
+		assertEquals("twitch4j", roomState.getChannelName().get());
+		assertFalse(roomState.getPayload().isPresent());
+		assertEquals("0", roomState.getTags().get("slow"));
+
+		IRCMessageEvent notice = new IRCMessageEvent("@msg-id=host_on;system-msg=Now\\shosting :tmi.twitch.tv NOTICE #twitch4j :Now hosting somebody.");
+		assertEquals("Now hosting", notice.getTagValue("system-msg").get());
+
+		assertFalse(new IRCMessageEvent("not an irc message").isValid());
+	}
+
+	/**
+	 * Test splitting of multi-line frames
+	 */
+	@Test
+	public void testFrameSplitting() {
+		List<String> commands = new ArrayList<>();
+		IRCParser.forEachLine("PING :tmi.twitch.tv\r\n:tmi.twitch.tv ROOMSTATE #twitch4j\r\n\r\n", (frame, start, end) -> commands.add(new IRCMessageEvent(frame, start, end).getCommandType()));
+
+		assertEquals(2, commands.size());
+		assertEquals("PING", commands.get(0));
+		assertEquals("ROOMSTATE", commands.get(1));
+	}
+}
@@ -0,0 +1,84 @@
+package me.philippheuer.twitch4j.events.flow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import junit.framework.TestCase;
+import me.philippheuer.twitch4j.enums.BackpressureStrategy;
+import me.philippheuer.twitch4j.events.Event;
+import me.philippheuer.twitch4j.events.EventDispatcher;
+import me.philippheuer.util.test.UnitTestCategory;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTestCategory.class)
+public class EventPublisherTest extends TestCase {
+
+	public static class NumberEvent extends Event {
+
+		private final int number;
+
+		public NumberEvent(int number) {
+			this.number = number;
+		}
+	}
+
+	public static class TestSubscriber implements Flow.Subscriber<NumberEvent> {
+
+		private final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+
+		private final CountDownLatch latch;
+
+		private Flow.Subscription subscription;
+
+		public TestSubscriber(int expected) {
+			this.latch = new CountDownLatch(expected);
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(NumberEvent item) {
+			received.add(item.number);
+			latch.countDown();
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+		}
+
+		@Override
+		public void onComplete() {
+		}
+	}
+
+	/**
+	 * Test that events are only delivered on demand, and the oldest events are dropped if the buffer is full
+	 */
+	@Test
+	public void testDropOldest() throws Exception {
+		EventDispatcher dispatcher = new EventDispatcher(null);
+		TestSubscriber subscriber = new TestSubscriber(2);
+		dispatcher.getPublisher(NumberEvent.class, 2, BackpressureStrategy.DROP_OLDEST).subscribe(subscriber);
+
+		for (int i = 0; i < 5; i++) {
+			dispatcher.dispatch(new NumberEvent(i));
+		}
+		Thread.sleep(50);
+		assertTrue(subscriber.received.isEmpty());
+		assertEquals(3, ((EventSubscription<?>) subscriber.subscription).getDroppedCount());
+
+		subscriber.subscription.request(10);
+		assertTrue(subscriber.latch.await(5, TimeUnit.SECONDS));
+		assertEquals(Arrays.asList(3, 4), subscriber.received);
+
+		subscriber.subscription.cancel();
+		assertEquals(0, dispatcher.getDispatchPlan(NumberEvent.class).getHandles().length);
+	}
+}
@@ -0,0 +1,96 @@
+package me.philippheuer.twitch4j.index;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import junit.framework.TestCase;
+import me.philippheuer.twitch4j.enums.SubscriberMode;
+import me.philippheuer.twitch4j.events.Event;
+import me.philippheuer.twitch4j.index.processor.ComponentIndexProcessor;
+import me.philippheuer.util.test.UnitTestCategory;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTestCategory.class)
+public class ComponentIndexProcessorTest extends TestCase {
+
+	public static class TestEvent extends Event {
+	}
+
+	private static final String LISTENER_SOURCE = String.join("\n",
+			"package sample;",
+			"import java.util.concurrent.atomic.AtomicInteger;",
+			"import me.philippheuer.twitch4j.enums.SubscriberMode;",
+			"import me.philippheuer.twitch4j.events.EventSubscriber;",
+			"import me.philippheuer.twitch4j.index.ComponentIndexProcessorTest.TestEvent;",
+			"public class SampleListener {",
+			"	public final AtomicInteger received = new AtomicInteger();",
+			"	@EventSubscriber(mode = SubscriberMode.INLINE)",
+			"	public void onEvent(TestEvent event) { received.incrementAndGet(); }",
+			"}",
+			"class BatchListener {",
+			"	@EventSubscriber(batchSize = 10)",
+			"	public void onEvents(java.util.List<TestEvent> events) { }",
+			"}"
+	);
+
+	@Test
+	public void testGeneratedIndex() throws Exception {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		if (compiler == null) {
+			// running on a JRE
+			return;
+		}
+
+		Path dir = Files.createTempDirectory("component-index");
+		Path source = dir.resolve("sample/SampleListener.java");
+		Files.createDirectories(source.getParent());
+		Files.write(source, LISTENER_SOURCE.getBytes(StandardCharsets.UTF_8));
+
+		JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+				Arrays.asList("-d", dir.toString(), "-cp", System.getProperty("java.class.path"), "-implicit:none"),
+				null, compiler.getStandardFileManager(null, null, null).getJavaFileObjects(source.toFile()));
+		task.setProcessors(Collections.singletonList(new ComponentIndexProcessor()));
+		assertTrue(task.call());
+
+		List<String> services = Files.readAllLines(dir.resolve("META-INF/services/" + ComponentIndex.class.getName()));
+		assertEquals(Collections.singletonList("sample.Twitch4JComponentIndex"), services);
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, getClass().getClassLoader())) {
+			ComponentRegistry registry = new ComponentRegistry();
+			((ComponentIndex) loader.loadClass("sample.Twitch4JComponentIndex").newInstance()).register(registry);
+
+			Class<?> listenerClass = loader.loadClass("sample.SampleListener");
+			List<IndexedSubscriber> subscribers = registry.getSubscribers(listenerClass);
+			assertEquals(1, subscribers.size());
+			assertEquals(TestEvent.class, subscribers.get(0).getEventType());
+			assertEquals(SubscriberMode.INLINE, subscribers.get(0).getMode());
+
+			// batch listeners use reflection
+			assertNull(registry.getSubscribers(loader.loadClass("sample.BatchListener")));
+
+			Object listener = listenerClass.newInstance();
+			subscribers.get(0).getInvoker().accept(listener, new TestEvent());
+			assertEquals(1, ((AtomicInteger) listenerClass.getField("received").get(listener)).get());
+		}
+
+		deleteRecursively(dir.toFile());
+	}
+
+	private static void deleteRecursively(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			Arrays.stream(children).forEach(ComponentIndexProcessorTest::deleteRecursively);
+		}
+		file.delete();
+	}
+}
@@ -0,0 +1,138 @@
+package me.philippheuer.twitch4j.message.irc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import junit.framework.TestCase;
+import me.philippheuer.twitch4j.enums.TMIConnectionState;
+import me.philippheuer.util.test.UnitTestCategory;
+import org.isomorphism.util.TokenBucket;
+import org.isomorphism.util.TokenBuckets;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTestCategory.class)
+public class ChannelJoinQueueTest extends TestCase {
+
+	/**
+	 * Connection that records the sent JOIN commands instead of writing them
+	 */
+	private static class RecordingConnection extends ChatConnection {
+
+		private final List<String> joins = Collections.synchronizedList(new ArrayList<>());
+
+		private RecordingConnection(TwitchChat chat, int shardId, TMIConnectionState state) {
+			super(chat, shardId);
+			setConnectionState(state);
+		}
+
+		@Override
+		protected void sendCommand(String command, String... args) {
+			if (command.equals("join")) {
+				joins.add(args[0]);
+			}
+		}
+	}
+
+	/**
+	 * Refills the tokens released by the test, so the tests don't depend on the refill interval
+	 */
+	private static class ManualRefillStrategy implements TokenBucket.RefillStrategy {
+
+		private final AtomicLong tokens = new AtomicLong();
+
+		@Override
+		public long refill() {
+			return tokens.getAndSet(0);
+		}
+
+		@Override
+		public long getDurationUntilNextRefill(TimeUnit unit) {
+			return unit.convert(10, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Test that channels which are ready at the same time are packed into as few JOIN commands as possible
+	 */
+	@Test
+	public void testPacking() throws Exception {
+		TwitchChat chat = new TwitchChat(null);
+		ChannelJoinQueue joinQueue = chat.getJoinQueue();
+		joinQueue.setMaxChannelsPerCommand(100);
+		ManualRefillStrategy refill = new ManualRefillStrategy();
+		joinQueue.setJoinBucket(TokenBuckets.builder()
+				.withCapacity(100)
+				.withRefillStrategy(refill)
+				.build());
+
+		// the worker waits for tokens until all joins are queued
+		RecordingConnection connection = new RecordingConnection(chat, 1, TMIConnectionState.CONNECTED);
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int i = 0; i < 60; i++) {
+			futures.add(connection.joinChannel(String.format("channel_%012d", i)));
+		}
+		refill.tokens.set(100);
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+
+		// 22 channels of 20 characters fit into a single command
+		assertEquals(3, connection.joins.size());
+		Set<String> joined = new HashSet<>();
+		for (String join : connection.joins) {
+			assertTrue(join.length() <= 500);
+			Collections.addAll(joined, join.split(","));
+		}
+		assertEquals(60, joined.size());
+	}
+
+	/**
+	 * Test that every channel consumes a token of the join bucket (Twitch: 20 joins per 10 seconds)
+	 */
+	@Test
+	public void testRateLimit() throws Exception {
+		TwitchChat chat = new TwitchChat(null);
+		assertEquals(20, chat.getJoinQueue().getJoinBucket().getCapacity());
+		chat.getJoinQueue().setJoinBucket(TokenBuckets.builder()
+				.withCapacity(20)
+				.withInitialTokens(20)
+				.withRefillStrategy(new ManualRefillStrategy())
+				.build());
+		RecordingConnection connection = new RecordingConnection(chat, 1, TMIConnectionState.CONNECTED);
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			futures.add(connection.joinChannel("channel" + i));
+		}
+
+		CompletableFuture.allOf(futures.subList(0, 20).toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+		Thread.sleep(500);
+		assertEquals(20, futures.stream().filter(CompletableFuture::isDone).count());
+	}
+
+	/**
+	 * Test that joins of disconnected connections are dropped until the connection is established again,
+	 * without affecting the join of another connection
+	 */
+	@Test
+	public void testDisconnectedConnection() throws Exception {
+		TwitchChat chat = new TwitchChat(null);
+		RecordingConnection disconnected = new RecordingConnection(chat, 1, TMIConnectionState.DISCONNECTED);
+		RecordingConnection connected = new RecordingConnection(chat, 2, TMIConnectionState.CONNECTED);
+
+		CompletableFuture<Void> dropped = disconnected.joinChannel("channel");
+		connected.joinChannel("channel").get(5, TimeUnit.SECONDS);
+		assertFalse(dropped.isDone());
+		assertTrue(disconnected.joins.isEmpty());
+		assertEquals(0, chat.getJoinQueue().getQueueSize());
+
+		// the channels are joined again once connected
+		disconnected.setConnectionState(TMIConnectionState.CONNECTED);
+		assertSame(dropped, chat.getJoinQueue().enqueue(disconnected, "channel"));
+		dropped.get(5, TimeUnit.SECONDS);
+		assertEquals(Collections.singletonList("#channel"), disconnected.joins);
+	}
+}
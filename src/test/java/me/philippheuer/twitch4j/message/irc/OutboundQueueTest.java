@@ -0,0 +1,111 @@
+package me.philippheuer.twitch4j.message.irc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import junit.framework.TestCase;
+import me.philippheuer.twitch4j.enums.MessagePriority;
+import me.philippheuer.twitch4j.enums.TMIConnectionState;
+import me.philippheuer.util.test.UnitTestCategory;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTestCategory.class)
+public class OutboundQueueTest extends TestCase {
+
+	/**
+	 * Connection that records the sent commands instead of writing them
+	 */
+	private static class RecordingConnection extends ChatConnection {
+
+		private final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+
+		private RecordingConnection(TwitchChat chat) {
+			super(chat, 1);
+		}
+
+		@Override
+		protected void sendCommand(String command, String... args) {
+			sent.add(args[args.length - 1]);
+		}
+	}
+
+	/**
+	 * Test that the writer sends the higher priority lanes first
+	 */
+	@Test
+	public void testLaneOrder() throws Exception {
+		RecordingConnection connection = new RecordingConnection(new TwitchChat(null));
+		OutboundQueue queue = connection.getOutboundQueue();
+
+		// queued while disconnected, sent once connected
+		queue.add(MessagePriority.BULK, "channel", "bulk");
+		queue.add(MessagePriority.NORMAL, "channel", "normal");
+		queue.add(MessagePriority.MODERATION, "channel", "/ban user");
+		connection.setConnectionState(TMIConnectionState.CONNECTED);
+
+		for (int i = 0; i < 50 && connection.sent.size() < 3; i++) {
+			Thread.sleep(100);
+		}
+		assertEquals(Arrays.asList(":/ban user", ":normal", ":bulk"), connection.sent);
+	}
+
+	/**
+	 * Test that a full moderation lane rejects new actions and keeps the queued ones
+	 */
+	@Test
+	public void testDropNewest() {
+		TwitchChat chat = new TwitchChat(null);
+		chat.getOutboundLane(MessagePriority.MODERATION).setCapacity(2);
+		OutboundQueue queue = new RecordingConnection(chat).getOutboundQueue();
+
+		assertTrue(queue.add(MessagePriority.MODERATION, "channel", "/ban a"));
+		assertTrue(queue.add(MessagePriority.MODERATION, "channel", "/ban b"));
+		assertFalse(queue.add(MessagePriority.MODERATION, "channel", "/ban c"));
+		assertEquals(Arrays.asList("/ban a", "/ban b"), messages(queue.shutdown()));
+	}
+
+	/**
+	 * Test that a full normal lane drops the oldest message
+	 */
+	@Test
+	public void testDropOldest() {
+		TwitchChat chat = new TwitchChat(null);
+		chat.getOutboundLane(MessagePriority.NORMAL).setCapacity(2);
+		OutboundQueue queue = new RecordingConnection(chat).getOutboundQueue();
+
+		assertTrue(queue.add(MessagePriority.NORMAL, "channel", "a"));
+		assertTrue(queue.add(MessagePriority.NORMAL, "channel", "b"));
+		assertTrue(queue.add(MessagePriority.NORMAL, "channel", "c"));
+		assertEquals(Arrays.asList("b", "c"), messages(queue.shutdown()));
+	}
+
+	/**
+	 * Test that a full bulk lane merges messages of the same channel, and drops the oldest message if commands can't be merged
+	 */
+	@Test
+	public void testMerge() {
+		TwitchChat chat = new TwitchChat(null);
+		chat.getOutboundLane(MessagePriority.BULK).setCapacity(2);
+		OutboundQueue queue = new RecordingConnection(chat).getOutboundQueue();
+
+		assertTrue(queue.add(MessagePriority.BULK, "first", "a"));
+		assertTrue(queue.add(MessagePriority.BULK, "second", "b"));
+		// appended to the queued message of the channel
+		assertTrue(queue.add(MessagePriority.BULK, "first", "c"));
+		// duplicate
+		assertTrue(queue.add(MessagePriority.BULK, "second", "b"));
+		assertEquals(2, queue.getQueueSize(MessagePriority.BULK));
+
+		// commands are never merged
+		assertTrue(queue.add(MessagePriority.BULK, "first", "/me d"));
+		assertEquals(Arrays.asList("b", "/me d"), messages(queue.shutdown()));
+		assertFalse(queue.add(MessagePriority.BULK, "first", "e"));
+	}
+
+	private static List<String> messages(List<OutboundQueue.OutboundMessage> queued) {
+		return queued.stream().map(OutboundQueue.OutboundMessage::getMessage).collect(Collectors.toList());
+	}
+}
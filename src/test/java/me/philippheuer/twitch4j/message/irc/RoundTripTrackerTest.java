@@ -0,0 +1,30 @@
+package me.philippheuer.twitch4j.message.irc;
+
+import junit.framework.TestCase;
+import me.philippheuer.util.test.UnitTestCategory;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTestCategory.class)
+public class RoundTripTrackerTest extends TestCase {
+
+	/**
+	 * Test the percentiles of the recorded round-trip times
+	 */
+	@Test
+	public void testPercentiles() {
+		RoundTripTracker tracker = new RoundTripTracker();
+		assertEquals(-1, tracker.getPercentile(50));
+
+		for (int i = 100; i >= 1; i--) {
+			tracker.record(i);
+		}
+
+		// only the latest 64 samples (64 .. 1) are kept
+		assertEquals(64, tracker.getSampleCount());
+		assertEquals(1, tracker.getLatest());
+		assertEquals(32, tracker.getPercentile(50));
+		assertEquals(58, tracker.getPercentile(90));
+		assertEquals(64, tracker.getPercentile(100));
+	}
+}